@@ -0,0 +1,70 @@
+package com.gym.crm.app.benchmark;
+
+import com.gym.crm.app.service.common.CryptoPrimitives;
+import com.gym.crm.app.service.common.PasswordHashAlgorithm;
+import com.gym.crm.app.service.common.PasswordHashingExecutor;
+import com.gym.crm.app.service.common.PasswordUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordCryptoBenchmark {
+
+    private static final String PASSWORD = "Zq8kLm2pXv";
+    private static final int ITERATIONS = 1;
+
+    private PasswordHashingExecutor hashingExecutor;
+    private PasswordUtils passwordUtils;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hashingExecutor = new PasswordHashingExecutor(1, 16, Duration.ofSeconds(1), new SimpleMeterRegistry());
+        passwordUtils = new PasswordUtils(hashingExecutor, new CryptoPrimitives());
+
+        setField("passwordLength", 10);
+        setField("algorithm", PasswordHashAlgorithm.PBKDF2_SHA256);
+        setField("iterations", ITERATIONS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return passwordUtils.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public String generatePassword() {
+        return passwordUtils.generatePassword();
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(PasswordUtils.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, passwordUtils, value);
+    }
+}
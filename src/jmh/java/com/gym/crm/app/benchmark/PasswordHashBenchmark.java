@@ -0,0 +1,74 @@
+package com.gym.crm.app.benchmark;
+
+import com.gym.crm.app.service.common.CryptoPrimitives;
+import com.gym.crm.app.service.common.PasswordHashAlgorithm;
+import com.gym.crm.app.service.common.PasswordHashingExecutor;
+import com.gym.crm.app.service.common.PasswordUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "Zq8kLm2pXv";
+
+    @Param({"PBKDF2_SHA256", "PBKDF2_SHA512"})
+    private PasswordHashAlgorithm algorithm;
+
+    @Param({"100000", "210000", "600000"})
+    private int iterations;
+
+    private PasswordHashingExecutor hashingExecutor;
+    private PasswordUtils passwordUtils;
+    private String storedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hashingExecutor = new PasswordHashingExecutor(1, 16, Duration.ofSeconds(1), new SimpleMeterRegistry());
+        passwordUtils = new PasswordUtils(hashingExecutor, new CryptoPrimitives());
+
+        setField("passwordLength", 10);
+        setField("algorithm", algorithm);
+        setField("iterations", iterations);
+
+        storedPassword = passwordUtils.hashPassword(PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return passwordUtils.isPasswordCorrect(PASSWORD, storedPassword);
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(PasswordUtils.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, passwordUtils, value);
+    }
+}
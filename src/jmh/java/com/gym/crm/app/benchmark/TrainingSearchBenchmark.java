@@ -0,0 +1,150 @@
+package com.gym.crm.app.benchmark;
+
+import com.gym.crm.app.CrmGymApplication;
+import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.facade.mapper.GetTraineeTrainingsMapper;
+import com.gym.crm.app.repository.TrainingRepository;
+import com.gym.crm.app.rest.model.GetTraineeTrainingsResponse;
+import com.gym.crm.app.service.search.TraineeTrainingSearchFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TrainingSearchBenchmark {
+
+    private static final int TRAINEES = 1000;
+    private static final int TRAINERS = 100;
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("trainingDate"), Sort.Order.desc("id"));
+
+    @Param({"10000", "100000", "1000000"})
+    private int trainings;
+
+    @Param({"50", "200"})
+    private int pageSize;
+
+    private PostgreSQLContainer<?> container;
+    private ConfigurableApplicationContext context;
+    private TrainingRepository trainingRepository;
+    private GetTraineeTrainingsMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        container = new PostgreSQLContainer<>("postgres:latest");
+        container.start();
+
+        context = new SpringApplicationBuilder(CrmGymApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + container.getJdbcUrl(),
+                        "spring.datasource.username=" + container.getUsername(),
+                        "spring.datasource.password=" + container.getPassword(),
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        trainingRepository = context.getBean(TrainingRepository.class);
+        mapper = context.getBean(GetTraineeTrainingsMapper.class);
+
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        container.stop();
+    }
+
+    @Benchmark
+    public List<GetTraineeTrainingsResponse> entityGraph() {
+        List<Training> rows = trainingRepository.findBy(randomTraineeSpecification(), query -> query
+                .sortBy(KEYSET_ORDER)
+                .limit(pageSize + 1)
+                .all());
+
+        return rows.stream()
+                .map(mapper::mapToGetTraineeTrainingsResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public List<GetTraineeTrainingsResponse> projection() {
+        return trainingRepository.findViews(randomTraineeSpecification(), KEYSET_ORDER, Limit.of(pageSize + 1)).stream()
+                .map(mapper::mapToGetTraineeTrainingsResponse)
+                .toList();
+    }
+
+    private Specification<Training> randomTraineeSpecification() {
+        String username = "bench.trainee." + ThreadLocalRandom.current().nextInt(1, TRAINEES + 1);
+
+        return TraineeTrainingSearchFilter.builder()
+                .username(username)
+                .build()
+                .toSpecification();
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO public."user" (first_name, last_name, username, password, is_active)
+                SELECT 'Trainee' || g, 'Bench', 'bench.trainee.' || g, 'password', true FROM generate_series(1, ?) g
+                """, TRAINEES);
+        jdbcTemplate.update("""
+                INSERT INTO public."user" (first_name, last_name, username, password, is_active)
+                SELECT 'Trainer' || g, 'Bench', 'bench.trainer.' || g, 'password', true FROM generate_series(1, ?) g
+                """, TRAINERS);
+        jdbcTemplate.update("""
+                INSERT INTO public.trainee (date_of_birth, address, user_id)
+                SELECT DATE '1990-01-01', 'Bench street', id FROM public."user" WHERE username LIKE 'bench.trainee.%'
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO public.trainer (specialization, user_id)
+                SELECT (SELECT min(id) FROM public.training_type), id FROM public."user" WHERE username LIKE 'bench.trainer.%'
+                """);
+        jdbcTemplate.update("""
+                WITH trainees AS (
+                    SELECT array_agg(t.id ORDER BY t.id) AS ids FROM public.trainee t
+                    JOIN public."user" u ON u.id = t.user_id WHERE u.username LIKE 'bench.trainee.%'),
+                trainers AS (
+                    SELECT array_agg(t.id ORDER BY t.id) AS ids FROM public.trainer t
+                    JOIN public."user" u ON u.id = t.user_id WHERE u.username LIKE 'bench.trainer.%'),
+                types AS (
+                    SELECT array_agg(id ORDER BY id) AS ids FROM public.training_type)
+                INSERT INTO public.training (trainee_id, trainer_id, training_name, training_type_id, training_date, training_duration)
+                SELECT trainees.ids[1 + g % array_length(trainees.ids, 1)],
+                       trainers.ids[1 + g % array_length(trainers.ids, 1)],
+                       'Training ' || g,
+                       types.ids[1 + g % array_length(types.ids, 1)],
+                       DATE '2020-01-01' + (g % 1500),
+                       60
+                FROM generate_series(1, ?) g, trainees, trainers, types
+                """, trainings);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,13 +22,17 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class JwtBlackToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jwt_black_list_seq")
+    @SequenceGenerator(name = "jwt_black_list_seq", sequenceName = "jwt_black_list_seq", schema = "public", allocationSize = 1)
     @Column(name = "id", nullable = false, updatable = false, unique = true)
     private Long id;
 
-    @Column(name = "token", nullable = false)
+    @Column(name = "token")
     private String token;
 
+    @Column(name = "token_digest")
+    private byte[] tokenDigest;
+
     @Column(name = "expiry_date", updatable = false, nullable = false)
     private LocalDateTime expiryDate;
 }
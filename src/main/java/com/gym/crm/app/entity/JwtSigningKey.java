@@ -0,0 +1,33 @@
+package com.gym.crm.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "jwt_signing_key", schema = "public")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JwtSigningKey {
+    @Id
+    @Column(name = "kid", nullable = false, updatable = false, unique = true)
+    private String kid;
+
+    @Column(name = "secret", nullable = false, updatable = false)
+    private String secret;
+
+    @Column(name = "activates_at", nullable = false, updatable = false)
+    private LocalDateTime activatesAt;
+
+    @Column(name = "retires_at")
+    private LocalDateTime retiresAt;
+}
@@ -14,6 +14,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -41,8 +42,9 @@ import java.util.Set;
 public final class Trainee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, updatable = false, unique = true, insertable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainee_seq")
+    @SequenceGenerator(name = "trainee_seq", sequenceName = "trainee_seq", schema = "public", allocationSize = 50)
+    @Column(name = "id", nullable = false, updatable = false, unique = true)
     private final Long id;
 
     @Column(name = "date_of_birth")
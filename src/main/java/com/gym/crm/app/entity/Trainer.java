@@ -15,6 +15,7 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -41,8 +42,9 @@ import java.util.Set;
 public final class Trainer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, updatable = false, unique = true, insertable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainer_seq")
+    @SequenceGenerator(name = "trainer_seq", sequenceName = "trainer_seq", schema = "public", allocationSize = 50)
+    @Column(name = "id", nullable = false, updatable = false, unique = true)
     private final Long id;
 
     @ToString.Exclude
@@ -0,0 +1,25 @@
+package com.gym.crm.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "username_counter", schema = "public")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsernameCounter {
+    @Id
+    @Column(name = "base_name", nullable = false, updatable = false, unique = true, length = 100)
+    private String baseName;
+
+    @Column(name = "last_serial", nullable = false)
+    private Long lastSerial;
+}
@@ -0,0 +1,18 @@
+package com.gym.crm.app.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final Integer code;
+    private final Duration retryAfter;
+
+    public PasswordHashingRejectedException(String message, Integer code, Duration retryAfter) {
+        super(message);
+        this.code = code;
+        this.retryAfter = retryAfter;
+    }
+}
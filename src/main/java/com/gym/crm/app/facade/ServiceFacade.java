@@ -7,7 +7,9 @@ import com.gym.crm.app.entity.TrainingType;
 import com.gym.crm.app.entity.User;
 import com.gym.crm.app.exception.AuthenticationException;
 import com.gym.crm.app.exception.EntityPersistException;
+import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.facade.mapper.AddTrainingMapper;
+import com.gym.crm.app.facade.mapper.BulkTrainingMapper;
 import com.gym.crm.app.facade.mapper.CreateTraineeProfileMapper;
 import com.gym.crm.app.facade.mapper.CreateTrainerProfileMapper;
 import com.gym.crm.app.facade.mapper.GetTraineeProfileMapper;
@@ -18,8 +20,12 @@ import com.gym.crm.app.facade.mapper.TrainerProfileMapper;
 import com.gym.crm.app.facade.mapper.TrainingTypeMapper;
 import com.gym.crm.app.facade.mapper.UpdateTraineeProfileMapper;
 import com.gym.crm.app.facade.mapper.UpdateTrainerProfileMapper;
+import com.gym.crm.app.facade.validator.CreateTrainingValidator;
+import com.gym.crm.app.repository.projection.TrainerView;
+import com.gym.crm.app.repository.projection.TrainingView;
 import com.gym.crm.app.rest.model.ActivateDeactivateProfileRequest;
 import com.gym.crm.app.rest.model.AddTrainingRequest;
+import com.gym.crm.app.rest.model.BulkTrainingResponse;
 import com.gym.crm.app.rest.model.ChangePasswordRequest;
 import com.gym.crm.app.rest.model.GetTraineeProfileResponse;
 import com.gym.crm.app.rest.model.GetTraineeTrainingsResponse;
@@ -36,21 +42,40 @@ import com.gym.crm.app.rest.model.UpdateTrainerProfileRequest;
 import com.gym.crm.app.rest.model.UpdateTrainerProfileResponse;
 import com.gym.crm.app.rest.model.UserCredentials;
 import com.gym.crm.app.security.AuthService;
+import com.gym.crm.app.security.UserDetailsCache;
+import com.gym.crm.app.security.UserStateCache;
 import com.gym.crm.app.service.TraineeService;
 import com.gym.crm.app.service.TrainerService;
+import com.gym.crm.app.service.TrainingExportService;
+import com.gym.crm.app.service.TrainingIngestService;
 import com.gym.crm.app.service.TrainingService;
 import com.gym.crm.app.service.TrainingTypeService;
 import com.gym.crm.app.service.UserService;
 import com.gym.crm.app.service.common.BindingResultsService;
+import com.gym.crm.app.service.common.TrainerDirectory;
 import com.gym.crm.app.service.common.UserProfileService;
+import com.gym.crm.app.service.export.TrainingExportFormat;
+import com.gym.crm.app.service.ingest.TrainingIngestError;
+import com.gym.crm.app.service.ingest.TrainingIngestResult;
+import com.gym.crm.app.service.ingest.TrainingIngestRow;
+import com.gym.crm.app.service.search.CursorPage;
 import com.gym.crm.app.service.search.TraineeTrainingSearchFilter;
+import com.gym.crm.app.service.search.TrainerCursor;
 import com.gym.crm.app.service.search.TrainerTrainingSearchFilter;
+import com.gym.crm.app.service.search.TrainingCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -63,7 +88,12 @@ import static com.gym.crm.app.rest.exception.ErrorCode.TRAINEE_CREATE_ERROR;
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINEE_UPDATE_ERROR;
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINER_CREATE_ERROR;
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINER_UPDATE_ERROR;
+import static com.gym.crm.app.rest.exception.ErrorCode.TRAINING_BATCH_TOO_LARGE;
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINING_CREATE_ERROR;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 @Service
 @RequiredArgsConstructor
@@ -72,6 +102,7 @@ public class ServiceFacade {
     private final TraineeService traineeService;
     private final TrainerService trainerService;
     private final TrainingService trainingService;
+    private final TrainingExportService trainingExportService;
     private final TrainingTypeService trainingTypeService;
     private final UserService userService;
     private final UserProfileService userProfileService;
@@ -89,6 +120,15 @@ public class ServiceFacade {
     private final GetTraineeTrainingsMapper getTraineeTrainingsMapper;
     private final TrainingTypeMapper trainingTypeMapper;
     private final AuthService authService;
+    private final UserStateCache userStateCache;
+    private final UserDetailsCache userDetailsCache;
+    private final TrainerDirectory trainerDirectory;
+    private final TrainingIngestService trainingIngestService;
+    private final BulkTrainingMapper bulkTrainingMapper;
+    private final CreateTrainingValidator createTrainingValidator;
+
+    @Value("${training.ingest.max-rows:10000}")
+    private int maxIngestRows;
 
     public UserCredentials createTrainerProfile(TrainerCreateRequest request, BindingResult bindingResult) {
         bindingResultsService.handle(bindingResult, EntityPersistException::new, "Trainer creation error", TRAINER_CREATE_ERROR.getCode());
@@ -100,10 +140,19 @@ public class ServiceFacade {
         User user = trainer.getUser();
         user = userService.prepareUserForSave(user, password);
 
-        trainer = trainer.toBuilder().user(user).build();
-        trainerService.save(trainer);
+        Trainer prepared = trainer;
+        trainer = userProfileService.saveWithUniqueUsername(user, uniqueUser -> {
+            Trainer saved = prepared.toBuilder()
+                    .id(null)
+                    .user(uniqueUser.toBuilder().id(null).build())
+                    .build();
+            trainerService.save(saved);
+
+            return saved;
+        });
+        trainerDirectory.invalidate();
 
-        user = user.toBuilder().password(password).build();
+        user = trainer.getUser().toBuilder().password(password).build();
         trainer = trainer.toBuilder().user(user).build();
 
         return createTrainerProfileMapper.mapToUserCredentials(trainer);
@@ -119,10 +168,18 @@ public class ServiceFacade {
         User user = trainee.getUser();
         user = userService.prepareUserForSave(user, password);
 
-        trainee = trainee.toBuilder().user(user).build();
-        traineeService.save(trainee);
+        Trainee prepared = trainee;
+        trainee = userProfileService.saveWithUniqueUsername(user, uniqueUser -> {
+            Trainee saved = prepared.toBuilder()
+                    .id(null)
+                    .user(uniqueUser.toBuilder().id(null).build())
+                    .build();
+            traineeService.save(saved);
+
+            return saved;
+        });
 
-        user = user.toBuilder().password(password).build();
+        user = trainee.getUser().toBuilder().password(password).build();
         trainee = trainee.toBuilder().user(user).build();
 
         return createTraineeProfileMapper.mapToUserCredentials(trainee);
@@ -145,9 +202,12 @@ public class ServiceFacade {
         checkUsername(username, sessionUser);
 
         Trainer trainer = trainerService.findByUsername(username);
-        trainer = updateTrainerProfileMapper.updateTraineeProfileFromDto(request, trainer);
+        Trainer updated = updateTrainerProfileMapper.updateTraineeProfileFromDto(request, trainer);
 
-        trainer = trainerService.update(trainer);
+        trainer = userProfileService.saveWithUniqueUsername(updated.getUser(),
+                uniqueUser -> trainerService.update(updated.toBuilder().user(uniqueUser).build()));
+        invalidateCachedUser(username);
+        trainerDirectory.invalidate();
 
         return updateTrainerProfileMapper.mapToUpdateTrainerProfileResponse(trainer);
     }
@@ -157,9 +217,11 @@ public class ServiceFacade {
         checkUsername(username, sessionUser);
 
         Trainee trainee = traineeService.findByUsername(username);
-        trainee = updateTraineeProfileMapper.updateTraineeProfileFromDto(request, trainee);
+        Trainee updated = updateTraineeProfileMapper.updateTraineeProfileFromDto(request, trainee);
 
-        trainee = traineeService.update(trainee);
+        trainee = userProfileService.saveWithUniqueUsername(updated.getUser(),
+                uniqueUser -> traineeService.update(updated.toBuilder().user(uniqueUser).build()));
+        invalidateCachedUser(username);
 
         return updateTraineeProfileMapper.mapToUpdateTraineeProfileResponse(trainee);
     }
@@ -176,41 +238,55 @@ public class ServiceFacade {
 
         user = user.toBuilder().isActive(request.getIsActive()).build();
         userService.update(user);
+        invalidateCachedUser(username);
+        trainerDirectory.invalidate();
     }
 
     public void deleteTraineeProfileByUsername(String username, User sessionUser) {
         checkUsername(username, sessionUser);
 
         traineeService.deleteByUsername(username);
+        invalidateCachedUser(username);
     }
 
-    public List<GetTraineeTrainingsResponse> getTraineeTrainingsByCriteria(String username, LocalDate from, LocalDate to, String trainerName, String trainingType) {
+    public CursorPage<GetTraineeTrainingsResponse> getTraineeTrainingsByCriteria(String username, LocalDate from, LocalDate to, String trainerName, String trainingType,
+                                                                                 String cursor, Integer limit) {
         TraineeTrainingSearchFilter searchFilter = TraineeTrainingSearchFilter.builder()
                 .username(username)
                 .from(from)
                 .to(to)
                 .profileName(trainerName)
                 .trainingType(trainingType)
+                .cursor(decodeCursor(cursor))
+                .limit(limit)
                 .build();
-        List<Training> trainings = traineeService.findTrainingByCriteria(searchFilter);
+        CursorPage<TrainingView> trainings = traineeService.findTrainingByCriteria(searchFilter);
 
-        return trainings.stream()
-                .map(getTraineeTrainingsMapper::mapToGetTraineeTrainingsResponse)
-                .toList();
+        return trainings.map(getTraineeTrainingsMapper::mapToGetTraineeTrainingsResponse);
     }
 
-    public List<GetTrainerTrainingsResponse> getTrainerTrainingsByCriteria(String username, LocalDate from, LocalDate to, String traineeName) {
+    public CursorPage<GetTrainerTrainingsResponse> getTrainerTrainingsByCriteria(String username, LocalDate from, LocalDate to, String traineeName,
+                                                                                 String cursor, Integer limit) {
         TrainerTrainingSearchFilter searchFilter = TrainerTrainingSearchFilter.builder()
                 .username(username)
                 .from(from)
                 .to(to)
                 .profileName(traineeName)
+                .cursor(decodeCursor(cursor))
+                .limit(limit)
                 .build();
-        List<Training> trainings = trainerService.findTrainingByCriteria(searchFilter);
+        CursorPage<TrainingView> trainings = trainerService.findTrainingByCriteria(searchFilter);
 
-        return trainings.stream()
-                .map(getTrainerTrainingsMapper::mapToGetTrainerTrainingsResponse)
-                .toList();
+        return trainings.map(getTrainerTrainingsMapper::mapToGetTrainerTrainingsResponse);
+    }
+
+    public StreamingResponseBody exportTrainings(String trainerUsername, TrainingExportFormat format, User sessionUser) {
+        String username = isNotBlank(trainerUsername) ? trainerUsername : sessionUser.getUsername();
+        checkUsername(username, sessionUser);
+
+        trainerService.findByUsername(username);
+
+        return out -> trainingExportService.export(username, format, out);
     }
 
     public void addTraining(AddTrainingRequest request, BindingResult bindingResult) {
@@ -228,29 +304,48 @@ public class ServiceFacade {
         trainingService.save(training);
     }
 
-    public List<TrainerProfileWithUsername> getTrainersNotAssignedByTraineeUsername(String username) {
-        traineeService.findByUsername(username);
+    public BulkTrainingResponse addTrainings(List<AddTrainingRequest> requests) {
+        if (requests.size() > maxIngestRows) {
+            throw new EntityValidationException("Training batch is larger than %d rows".formatted(maxIngestRows), TRAINING_BATCH_TOO_LARGE.getCode());
+        }
 
-        List<Trainer> trainers = trainerService.getTrainersNotAssignedByTraineeUsername(username);
+        List<TrainingIngestRow> rows = new ArrayList<>();
+        List<TrainingIngestError> rejected = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            AddTrainingRequest request = requests.get(index);
+            String error = validateTrainingRow(request);
+
+            if (nonNull(error)) {
+                rejected.add(new TrainingIngestError(index, error));
+            } else {
+                rows.add(bulkTrainingMapper.mapToTrainingIngestRow(index, request));
+            }
+        }
 
-        return trainers.stream()
-                .map(trainerProfileMapper::mapToTrainerProfileWithUsername)
-                .collect(Collectors.toList());
+        TrainingIngestResult result = trainingIngestService.ingest(rows);
+        rejected.addAll(result.errors());
+        rejected.sort(Comparator.comparingInt(TrainingIngestError::index));
+
+        return bulkTrainingMapper.mapToBulkTrainingResponse(new TrainingIngestResult(result.inserted(), rejected));
+    }
+
+    public CursorPage<TrainerProfileWithUsername> getTrainersNotAssignedByTraineeUsername(String username, String specialization, String cursor, Integer limit) {
+        TrainerCursor trainerCursor = isBlank(cursor) ? null : TrainerCursor.decode(cursor);
+
+        CursorPage<TrainerView> trainers = trainerService.getTrainersNotAssignedByTraineeUsername(username, specialization, trainerCursor, limit);
+
+        return trainers.map(trainerProfileMapper::mapToTrainerProfileWithUsername);
     }
 
     public List<TrainerProfileWithUsername> updateTraineesTrainerList(String username, List<TrainerProfileOnlyUsername> request, User sessionUser) {
         checkUsername(username, sessionUser);
 
-        Trainee trainee = traineeService.findByUsername(username);
-        List<Trainer> trainerList = request.stream()
-                .map(trainer -> trainerService.findByUsername(trainer.getUsername()))
+        List<String> trainerUsernames = request.stream()
+                .map(TrainerProfileOnlyUsername::getUsername)
                 .toList();
+        List<TrainerView> trainers = traineeService.updateTrainers(username, trainerUsernames);
 
-        trainee.getTrainers().clear();
-        trainee.getTrainers().addAll(trainerList);
-        traineeService.update(trainee);
-
-        return trainee.getTrainers().stream()
+        return trainers.stream()
                 .map(trainerProfileMapper::mapToTrainerProfileWithUsername)
                 .toList();
     }
@@ -278,18 +373,19 @@ public class ServiceFacade {
 
         String username = request.getUsername();
         String password = request.getPassword();
-        checkCredentials(username, password, sessionUser);
 
-        User user = userService.findByUsername(username);
+        User user = userService.findByUsername(sessionUser.getUsername());
+        checkCredentials(username, password, user);
 
         String hashedPassword = userProfileService.hashPassword(request.getNewPassword());
         user = user.toBuilder().password(hashedPassword).build();
 
         userService.update(user);
+        invalidateCachedUser(user.getUsername());
     }
 
-    private void checkCredentials(String username, String password, User sessionUser) {
-        if (!hasValidCredentials(username, password, sessionUser)) {
+    private void checkCredentials(String username, String password, User user) {
+        if (!hasValidCredentials(username, password, user)) {
             throw new AuthenticationException("Invalid username or password", INVALID_USERNAME_OR_PASSWORD.getCode());
         }
     }
@@ -300,8 +396,33 @@ public class ServiceFacade {
         }
     }
 
-    private boolean hasValidCredentials(String username, String password, User sessionUser) {
-        return sessionUser.getUsername().equals(username)
-                && userProfileService.isPasswordCorrect(password, sessionUser.getPassword());
+    private void invalidateCachedUser(String username) {
+        userDetailsCache.invalidate(username);
+        userStateCache.invalidate(username);
+    }
+
+    private boolean hasValidCredentials(String username, String password, User user) {
+        return user.getUsername().equals(username)
+                && userProfileService.isPasswordCorrect(password, user.getPassword());
+    }
+
+    private String validateTrainingRow(AddTrainingRequest request) {
+        if (isNull(request)) {
+            return "Training is required";
+        }
+
+        Errors errors = new BeanPropertyBindingResult(request, "addTrainingRequest");
+        createTrainingValidator.validate(request, errors);
+        if (!errors.hasErrors()) {
+            return null;
+        }
+
+        return errors.getAllErrors().stream()
+                .map(ObjectError::getDefaultMessage)
+                .collect(Collectors.joining("; "));
+    }
+
+    private TrainingCursor decodeCursor(String cursor) {
+        return isBlank(cursor) ? null : TrainingCursor.decode(cursor);
     }
 }
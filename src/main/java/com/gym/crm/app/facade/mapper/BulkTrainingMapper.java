@@ -0,0 +1,17 @@
+package com.gym.crm.app.facade.mapper;
+
+import com.gym.crm.app.rest.model.AddTrainingRequest;
+import com.gym.crm.app.rest.model.BulkTrainingResponse;
+import com.gym.crm.app.service.ingest.TrainingIngestResult;
+import com.gym.crm.app.service.ingest.TrainingIngestRow;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface BulkTrainingMapper {
+
+    TrainingIngestRow mapToTrainingIngestRow(Integer index, AddTrainingRequest request);
+
+    @Mapping(target = "rejected", expression = "java(result.rejected())")
+    BulkTrainingResponse mapToBulkTrainingResponse(TrainingIngestResult result);
+}
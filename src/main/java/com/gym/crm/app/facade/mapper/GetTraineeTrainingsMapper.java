@@ -1,6 +1,7 @@
 package com.gym.crm.app.facade.mapper;
 
 import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.repository.projection.TrainingView;
 import com.gym.crm.app.rest.model.GetTraineeTrainingsResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -10,4 +11,6 @@ public interface GetTraineeTrainingsMapper {
 
     @Mapping(target = "trainerName", source = "trainer.user.firstName")
     GetTraineeTrainingsResponse mapToGetTraineeTrainingsResponse(Training entity);
+
+    GetTraineeTrainingsResponse mapToGetTraineeTrainingsResponse(TrainingView view);
 }
@@ -1,6 +1,7 @@
 package com.gym.crm.app.facade.mapper;
 
 import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.repository.projection.TrainingView;
 import com.gym.crm.app.rest.model.GetTrainerTrainingsResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -10,4 +11,6 @@ public interface GetTrainerTrainingsMapper {
 
     @Mapping(target = "traineeName", source = "trainee.user.firstName")
     GetTrainerTrainingsResponse mapToGetTrainerTrainingsResponse(Training entity);
+
+    GetTrainerTrainingsResponse mapToGetTrainerTrainingsResponse(TrainingView view);
 }
@@ -1,6 +1,7 @@
 package com.gym.crm.app.facade.mapper;
 
 import com.gym.crm.app.entity.Trainer;
+import com.gym.crm.app.repository.projection.TrainerView;
 import com.gym.crm.app.rest.model.TrainerProfileWithUsername;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -12,4 +13,6 @@ public interface TrainerProfileMapper {
     @Mapping(target = "firstName", source = "user.firstName")
     @Mapping(target = "lastName", source = "user.lastName")
     TrainerProfileWithUsername mapToTrainerProfileWithUsername(Trainer entity);
+
+    TrainerProfileWithUsername mapToTrainerProfileWithUsername(TrainerView view);
 }
@@ -1,9 +1,13 @@
 package com.gym.crm.app.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.crm.app.exception.AuthenticationException;
 import com.gym.crm.app.rest.exception.ErrorCode;
 import com.gym.crm.app.rest.exception.ErrorResponse;
+import com.gym.crm.app.security.CustomUserDetailsService;
 import com.gym.crm.app.security.JwtService;
+import com.gym.crm.app.security.UserStateCache;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,7 +19,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -31,8 +34,9 @@ public class JwtFilter extends OncePerRequestFilter {
     private static final String ACCESS_TOKEN_HAS_EXPIRED = "Access token has expired";
     private static final List<String> EXCLUDED_URLS = List.of("/api/v1/refresh");
 
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
     private final JwtService jwtService;
+    private final UserStateCache userStateCache;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -47,10 +51,11 @@ public class JwtFilter extends OncePerRequestFilter {
 
         try {
             String token = jwtService.extractAccessToken(authorization);
-            String username = jwtService.extractUsername(token);
+            Claims claims = jwtService.verify(token);
+            String username = claims.getSubject();
 
             if (shouldAuthenticate(username)) {
-                authenticateUserWithToken(username, token);
+                authenticateUserWithToken(username, token, claims);
             }
 
             filterChain.doFilter(request, response);
@@ -69,10 +74,10 @@ public class JwtFilter extends OncePerRequestFilter {
         return nonNull(username) && SecurityContextHolder.getContext().getAuthentication() == null;
     }
 
-    private void authenticateUserWithToken(String username, String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    private void authenticateUserWithToken(String username, String token, Claims claims) {
+        UserDetails userDetails = loadUserDetails(username, claims);
 
-        if (jwtService.isValid(token, username)) {
+        if (jwtService.isValid(token, claims)) {
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     userDetails.getPassword(),
@@ -83,6 +88,21 @@ public class JwtFilter extends OncePerRequestFilter {
         }
     }
 
+    private UserDetails loadUserDetails(String username, Claims claims) {
+        boolean active = userStateCache.findActiveState(username)
+                .orElseThrow(() -> new AuthenticationException(INVALID_ACCESS_TOKEN, ErrorCode.INVALID_ACCESS_TOKEN.getCode()));
+
+        if (!active) {
+            throw new AuthenticationException(INVALID_ACCESS_TOKEN, ErrorCode.INVALID_ACCESS_TOKEN.getCode());
+        }
+
+        if (!jwtService.isStateless(claims)) {
+            return userDetailsService.loadTokenUserByUsername(username);
+        }
+
+        return jwtService.extractUser(claims, true);
+    }
+
     private boolean hasExcludedUrl(HttpServletRequest request) {
         String uri = request.getRequestURI();
 
@@ -72,7 +72,7 @@ public class LoginAttemptFilter extends OncePerRequestFilter {
     private void updateLoginAttemptStatus(HttpServletResponse response, String username) {
         if (response.getStatus() == HttpServletResponse.SC_OK) {
             loginAttemptService.loginSucceeded(username);
-        } else {
+        } else if (response.getStatus() != HttpServletResponse.SC_SERVICE_UNAVAILABLE) {
             loginAttemptService.loginFailed(username);
         }
     }
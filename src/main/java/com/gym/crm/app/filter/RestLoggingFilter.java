@@ -1,6 +1,7 @@
 package com.gym.crm.app.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.crm.app.logging.BodyLoggingPolicy;
+import com.gym.crm.app.logging.JsonLogRedactor;
 import com.gym.crm.app.logging.MessageHelper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -12,10 +13,9 @@ import org.slf4j.MDC;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import static com.gym.crm.app.util.Constants.INFO_REST_LOGGING_FILTER_REQUEST;
@@ -27,8 +27,10 @@ import static com.gym.crm.app.util.Constants.INFO_REST_LOGGING_FILTER_RESPONSE;
 public class RestLoggingFilter extends OncePerRequestFilter {
 
     private static final List<String> EXCLUDED_URLS = List.of("/swagger-ui", "/v1/api-docs", "/actuator/prometheus");
+    private static final String NOT_CAPTURED_BODY = "[not captured]";
 
-    private final ObjectMapper objectMapper;
+    private final JsonLogRedactor jsonLogRedactor;
+    private final BodyLoggingPolicy bodyLoggingPolicy;
     private final MessageHelper messageHelper;
 
     @Override
@@ -42,26 +44,56 @@ public class RestLoggingFilter extends OncePerRequestFilter {
 
         String transactionId = MDC.get("transactionId");
         CustomContentCachingRequestWrapper requestWrapper = new CustomContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
 
-        logRequestDetails(requestWrapper, transactionId);
+        if (!log.isInfoEnabled()) {
+            filterChain.doFilter(requestWrapper, response);
+            return;
+        }
+
+        if (!bodyLoggingPolicy.isSampled(request.getRequestURI())) {
+            logRequestDetails(requestWrapper, NOT_CAPTURED_BODY, transactionId);
+            filterChain.doFilter(requestWrapper, response);
+            logResponseDetails(response.getStatus(), NOT_CAPTURED_BODY, transactionId);
+            return;
+        }
+
+        TeeResponseWrapper responseWrapper = new TeeResponseWrapper(response,
+                bodyLoggingPolicy.getMaxCapturedBytes(), bodyLoggingPolicy::isCapturable);
 
-        filterChain.doFilter(requestWrapper, responseWrapper);
+        logRequestDetails(requestWrapper, redactRequestBody(requestWrapper), transactionId);
 
-        logResponseDetails(responseWrapper, transactionId);
-        responseWrapper.copyBodyToResponse();
+        try {
+            filterChain.doFilter(requestWrapper, responseWrapper);
+        } finally {
+            responseWrapper.flushWriter();
+        }
+
+        logResponseDetails(responseWrapper.getStatus(), redactResponseBody(responseWrapper), transactionId);
     }
 
-    private void logRequestDetails(CustomContentCachingRequestWrapper request, String transactionId) throws IOException {
+    private String redactRequestBody(CustomContentCachingRequestWrapper request) {
+        if (!bodyLoggingPolicy.isCapturable(request.getContentType())) {
+            return NOT_CAPTURED_BODY;
+        }
+
         byte[] cachedBody = request.getCachedBody();
-        String requestBody = new String(cachedBody, StandardCharsets.UTF_8);
+        int maxCapturedBytes = bodyLoggingPolicy.getMaxCapturedBytes();
+
+        return cachedBody.length > maxCapturedBytes
+                ? jsonLogRedactor.redact(Arrays.copyOf(cachedBody, maxCapturedBytes), true)
+                : jsonLogRedactor.redact(cachedBody);
+    }
 
-        if (cachedBody.length > 0) {
-            Object json = objectMapper.readValue(cachedBody, Object.class);
-            requestBody = objectMapper.writeValueAsString(json);
-            requestBody = hideCredentials(requestBody);
+    private String redactResponseBody(TeeResponseWrapper response) {
+        if (!bodyLoggingPolicy.isCapturable(response.getContentType())) {
+            return NOT_CAPTURED_BODY;
         }
 
+        return jsonLogRedactor.redact(response.getCapturedBody(), response.isTruncated());
+    }
+
+    private void logRequestDetails(CustomContentCachingRequestWrapper request, String requestBody, String transactionId) {
+
         log.info(messageHelper.getMessage(INFO_REST_LOGGING_FILTER_REQUEST,
                 request.getMethod(),
                 request.getRequestURI(),
@@ -69,18 +101,9 @@ public class RestLoggingFilter extends OncePerRequestFilter {
                 transactionId));
     }
 
-    private void logResponseDetails(ContentCachingResponseWrapper response, String transactionId) throws IOException {
-        byte[] cachedBody = response.getContentAsByteArray();
-        String responseBody = new String(cachedBody, StandardCharsets.UTF_8);
-
-        if (cachedBody.length > 0) {
-            Object json = objectMapper.readValue(cachedBody, Object.class);
-            responseBody = objectMapper.writeValueAsString(json);
-            responseBody = hideCredentials(responseBody);
-        }
-
+    private void logResponseDetails(int status, String responseBody, String transactionId) {
         log.info(messageHelper.getMessage(INFO_REST_LOGGING_FILTER_RESPONSE,
-                response.getStatus(),
+                status,
                 responseBody,
                 transactionId));
     }
@@ -91,17 +114,4 @@ public class RestLoggingFilter extends OncePerRequestFilter {
         return EXCLUDED_URLS.stream()
                 .anyMatch(uri::startsWith);
     }
-
-    private boolean hasCredentials(String body) {
-        return body.contains("username") || body.contains("password");
-    }
-
-    private String hideCredentials(String body) {
-        if (hasCredentials(body)) {
-            return body.replaceAll("\"username\":\"[^\"]*\"", "\"username\":\"****\"")
-                    .replaceAll("\"password\":\"[^\"]*\"", "\"password\":\"****\"");
-        }
-
-        return body;
-    }
 }
@@ -0,0 +1,165 @@
+package com.gym.crm.app.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class TeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int maxCapturedBytes;
+    private final Predicate<String> capturableContentType;
+    private final ByteArrayOutputStream capturedBody = new ByteArrayOutputStream();
+
+    @Getter
+    private boolean truncated;
+    private Boolean capturing;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public TeeResponseWrapper(HttpServletResponse response, int maxCapturedBytes, Predicate<String> capturableContentType) {
+        super(response);
+        this.maxCapturedBytes = maxCapturedBytes;
+        this.capturableContentType = capturableContentType;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (isNull(outputStream)) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (isNull(writer)) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        resetCapture();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        resetCapture();
+    }
+
+    public void flushWriter() {
+        if (nonNull(writer)) {
+            writer.flush();
+        }
+    }
+
+    public byte[] getCapturedBody() {
+        flushWriter();
+
+        return capturedBody.toByteArray();
+    }
+
+    private void resetCapture() {
+        writer = null;
+        capturedBody.reset();
+        truncated = false;
+        capturing = null;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        if (!isCapturing()) {
+            return;
+        }
+
+        int capturedLength = Math.min(length, maxCapturedBytes - capturedBody.size());
+        if (capturedLength < length) {
+            truncated = true;
+        }
+
+        capturedBody.write(bytes, offset, capturedLength);
+    }
+
+    private void capture(int b) {
+        if (!isCapturing()) {
+            return;
+        }
+
+        if (capturedBody.size() < maxCapturedBytes) {
+            capturedBody.write(b);
+        } else {
+            truncated = true;
+        }
+    }
+
+    private boolean isCapturing() {
+        if (isNull(capturing)) {
+            capturing = capturableContentType.test(getContentType());
+        }
+
+        return capturing;
+    }
+
+    private class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            capture(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
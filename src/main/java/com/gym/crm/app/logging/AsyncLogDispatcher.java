@@ -0,0 +1,155 @@
+package com.gym.crm.app.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+@Slf4j
+@Component
+public class AsyncLogDispatcher {
+
+    private static final String WRITER_THREAD_NAME = "async-log-writer";
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final MessageHelper messageHelper;
+    private final BlockingQueue<LogEvent> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Counter droppedCounter;
+    private final Thread writer = new Thread(this::writeLoop, WRITER_THREAD_NAME);
+
+    private volatile boolean running = true;
+
+    public AsyncLogDispatcher(MessageHelper messageHelper,
+                              MeterRegistry registry,
+                              @Value("${logging.async.capacity:8192}") int capacity,
+                              @Value("${logging.async.batch-size:256}") int batchSize,
+                              @Value("${logging.async.overflow-policy:DROP_NEWEST}") OverflowPolicy overflowPolicy) {
+        this.messageHelper = messageHelper;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.droppedCounter = registry.counter("log_events_dropped_total");
+
+        registry.gauge("log_events_queued", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+
+        flush();
+    }
+
+    public void dispatch(Logger logger, Level level, String code, Object... args) {
+        LogEvent event = new LogEvent(logger, level, code, args, LocaleContextHolder.getLocale(), MDC.getCopyOfContextMap());
+
+        if (queue.offer(event)) {
+            return;
+        }
+
+        if (level == Level.ERROR) {
+            write(event);
+        } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            dropOldestAndOffer(event);
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    public void flush() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            batch.forEach(this::writeWithContext);
+            batch.clear();
+        }
+    }
+
+    private void dropOldestAndOffer(LogEvent event) {
+        while (!queue.offer(event)) {
+            if (queue.poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                LogEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (isNull(first)) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(this::writeWithContext);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeWithContext(LogEvent event) {
+        if (isNull(event.mdc())) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(event.mdc());
+        }
+
+        try {
+            write(event);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void write(LogEvent event) {
+        try {
+            String message = messageHelper.getMessage(event.locale(), event.code(), event.args());
+            event.logger().atLevel(event.level()).log(message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write log event {}", event.code(), e);
+        }
+    }
+
+    public enum OverflowPolicy {
+        DROP_NEWEST,
+        DROP_OLDEST
+    }
+
+    private record LogEvent(Logger logger, Level level, String code, Object[] args, Locale locale, Map<String, String> mdc) {
+    }
+}
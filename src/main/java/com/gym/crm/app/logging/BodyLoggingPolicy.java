@@ -0,0 +1,49 @@
+package com.gym.crm.app.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Objects.isNull;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "logging.rest.body")
+public class BodyLoggingPolicy {
+
+    private double defaultSampleRate = 1.0;
+    private Map<String, Double> sampleRates = new LinkedHashMap<>();
+    private int maxCapturedBytes = 8192;
+    private List<String> excludedContentTypes = new ArrayList<>();
+
+    public boolean isSampled(String uri) {
+        double sampleRate = sampleRateFor(uri);
+
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    public boolean isCapturable(String contentType) {
+        if (isNull(contentType)) {
+            return true;
+        }
+
+        return excludedContentTypes.stream()
+                .noneMatch(contentType::startsWith);
+    }
+
+    private double sampleRateFor(String uri) {
+        return sampleRates.entrySet().stream()
+                .filter(entry -> uri.startsWith(entry.getKey()))
+                .max(Map.Entry.comparingByKey((first, second) -> Integer.compare(first.length(), second.length())))
+                .map(Map.Entry::getValue)
+                .orElse(defaultSampleRate);
+    }
+}
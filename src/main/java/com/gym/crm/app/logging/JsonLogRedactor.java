@@ -0,0 +1,73 @@
+package com.gym.crm.app.logging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class JsonLogRedactor {
+
+    private static final Set<String> MASKED_FIELDS = Set.of("username", "password", "newPassword",
+            "token", "accessToken", "refreshToken");
+    private static final String MASK = "****";
+    private static final String TRUNCATED_SUFFIX = "...[truncated]";
+    private static final String UNPARSEABLE_BODY = "[unparseable body of %d bytes]";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${logging.rest.max-body-length:2048}")
+    private int maxBodyLength;
+
+    public String redact(byte[] body) {
+        return redact(body, false);
+    }
+
+    public String redact(byte[] body, boolean truncated) {
+        if (body.length == 0) {
+            return "";
+        }
+
+        JsonFactory factory = objectMapper.getFactory();
+        StringWriter writer = new StringWriter(Math.min(body.length, maxBodyLength));
+
+        try (JsonParser parser = factory.createParser(body);
+             JsonGenerator generator = factory.createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+            while (parser.nextToken() != null) {
+                copyRedacted(parser, generator);
+
+                if (writer.getBuffer().length() + generator.getOutputBuffered() > maxBodyLength) {
+                    generator.flush();
+                    return writer.getBuffer().substring(0, maxBodyLength) + TRUNCATED_SUFFIX;
+                }
+            }
+        } catch (IOException e) {
+            return truncated && !writer.getBuffer().isEmpty()
+                    ? writer + TRUNCATED_SUFFIX
+                    : UNPARSEABLE_BODY.formatted(body.length);
+        }
+
+        return writer.toString();
+    }
+
+    private void copyRedacted(JsonParser parser, JsonGenerator generator) throws IOException {
+        if (parser.currentToken() != JsonToken.FIELD_NAME || !MASKED_FIELDS.contains(parser.currentName())) {
+            generator.copyCurrentEvent(parser);
+            return;
+        }
+
+        generator.writeFieldName(parser.currentName());
+        parser.nextToken();
+        parser.skipChildren();
+        generator.writeString(MASK);
+    }
+}
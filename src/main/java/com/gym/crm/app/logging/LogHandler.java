@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.slf4j.MDC;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -13,27 +14,40 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class LogHandler {
 
-    private final MessageHelper messageHelper;
+    private final AsyncLogDispatcher logDispatcher;
 
     public void logBefore(JoinPoint joinPoint, String infoMessageCode, String debugMessageCode) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+
         String className = joinPoint.getSignature().getDeclaringTypeName();
         String methodName = joinPoint.getSignature().getName();
         String transactionId = MDC.get("transactionId");
 
-        Object[] args = joinPoint.getArgs();
-        String stringArgs = Arrays.toString(args);
+        logDispatcher.dispatch(log, Level.INFO, infoMessageCode, methodName, className, transactionId);
 
-        log.info(messageHelper.getMessage(infoMessageCode, methodName, className, transactionId));
-        log.debug(messageHelper.getMessage(debugMessageCode, className, methodName, transactionId, stringArgs));
+        if (log.isDebugEnabled()) {
+            String stringArgs = Arrays.toString(joinPoint.getArgs());
+            logDispatcher.dispatch(log, Level.DEBUG, debugMessageCode, className, methodName, transactionId, stringArgs);
+        }
     }
 
     public void logAfterReturning(JoinPoint joinPoint, Object result, String infoMessageCode, String debugMessageCode) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+
         String className = joinPoint.getSignature().getDeclaringTypeName();
         String methodName = joinPoint.getSignature().getName();
         String transactionId = MDC.get("transactionId");
 
-        log.info(messageHelper.getMessage(infoMessageCode, methodName, className, transactionId));
-        log.debug(messageHelper.getMessage(debugMessageCode, className, methodName, transactionId, result));
+        logDispatcher.dispatch(log, Level.INFO, infoMessageCode, methodName, className, transactionId);
+
+        if (log.isDebugEnabled()) {
+            String stringResult = String.valueOf(result);
+            logDispatcher.dispatch(log, Level.DEBUG, debugMessageCode, className, methodName, transactionId, stringResult);
+        }
     }
 
     public void logAfterThrowing(JoinPoint joinPoint, Exception ex, String infoMessageCode, String errorMessageCode) {
@@ -42,7 +56,9 @@ public class LogHandler {
         String message = ex.getMessage();
         String transactionId = MDC.get("transactionId");
 
-        log.info(messageHelper.getMessage(infoMessageCode, methodName, className, transactionId));
-        log.error(messageHelper.getMessage(errorMessageCode, className, methodName, transactionId, message));
+        if (log.isInfoEnabled()) {
+            logDispatcher.dispatch(log, Level.INFO, infoMessageCode, methodName, className, transactionId);
+        }
+        logDispatcher.dispatch(log, Level.ERROR, errorMessageCode, className, methodName, transactionId, message);
     }
 }
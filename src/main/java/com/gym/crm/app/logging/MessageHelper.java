@@ -5,6 +5,8 @@ import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
 @Component
 @RequiredArgsConstructor
 public class MessageHelper {
@@ -14,4 +16,8 @@ public class MessageHelper {
     public String getMessage(String code, Object... args) {
         return messageSource.getMessage(code, args, LocaleContextHolder.getLocale());
     }
+
+    public String getMessage(Locale locale, String code, Object... args) {
+        return messageSource.getMessage(code, args, locale);
+    }
 }
@@ -2,14 +2,28 @@ package com.gym.crm.app.repository;
 
 import com.gym.crm.app.entity.JwtBlackToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface JwtBlackTokenRepository extends JpaRepository<JwtBlackToken, Long> {
 
-    void deleteByExpiryDateBefore(LocalDateTime expiryDate);
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM jwt_black_list
+            WHERE id IN (
+                SELECT id FROM jwt_black_list
+                WHERE expiry_date < :now
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime now, int batchSize);
 
-    boolean existsByToken(String token);
+    List<JwtBlackToken> findAllByExpiryDateAfter(LocalDateTime expiryDate);
 }
@@ -0,0 +1,37 @@
+package com.gym.crm.app.repository;
+
+import com.gym.crm.app.entity.JwtSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    @Query("SELECT k FROM JwtSigningKey k WHERE k.retiresAt IS NULL OR k.retiresAt > :now")
+    List<JwtSigningKey> findAllUsable(LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO jwt_signing_key (kid, secret, activates_at)
+            VALUES (:kid, :secret, :activatesAt)
+            ON CONFLICT (kid) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(String kid, String secret, LocalDateTime activatesAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JwtSigningKey k SET k.retiresAt = :retiresAt WHERE k.retiresAt IS NULL AND k.kid <> :kid")
+    int retireAllExcept(String kid, LocalDateTime retiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM JwtSigningKey k WHERE k.retiresAt < :now")
+    int deleteRetired(LocalDateTime now);
+}
@@ -0,0 +1,43 @@
+package com.gym.crm.app.repository;
+
+import com.gym.crm.app.entity.LoginAttempt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface LoginAttemptRepository extends JpaRepository<LoginAttempt, String> {
+
+    @Query(value = """
+            INSERT INTO login_attempt (username, failures, window_start, expires_at)
+            VALUES (:username, 1, :now, :expiresAt)
+            ON CONFLICT (username) DO UPDATE SET
+                failures = CASE WHEN login_attempt.window_start > :windowStart
+                    THEN login_attempt.failures + 1 ELSE 1 END,
+                window_start = CASE WHEN login_attempt.window_start > :windowStart
+                    THEN login_attempt.window_start ELSE :now END,
+                expires_at = GREATEST(login_attempt.expires_at, :expiresAt)
+            RETURNING failures
+            """, nativeQuery = true)
+    int incrementFailures(String username, LocalDateTime now, LocalDateTime windowStart, LocalDateTime expiresAt);
+
+    @Modifying
+    @Query(value = """
+            UPDATE login_attempt
+            SET blocked_until = GREATEST(blocked_until, :until),
+                expires_at = GREATEST(expires_at, :until)
+            WHERE username = :username
+            """, nativeQuery = true)
+    int block(String username, LocalDateTime until);
+
+    @Query("SELECT a.blockedUntil FROM LoginAttempt a WHERE a.username = :username")
+    Optional<LocalDateTime> findBlockedUntilByUsername(String username);
+
+    @Modifying
+    @Query("DELETE FROM LoginAttempt a WHERE a.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
@@ -2,19 +2,61 @@ package com.gym.crm.app.repository;
 
 import com.gym.crm.app.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    @Query(value = """
+            INSERT INTO refresh_token (user_id, token_digest, expiry_date, created_at, updated_at)
+            SELECT u.id, :tokenDigest, :expiryDate, :now, :now
+            FROM public."user" u
+            WHERE u.username = :username
+            ON CONFLICT (user_id) DO UPDATE SET
+                token = NULL,
+                token_digest = EXCLUDED.token_digest,
+                expiry_date = EXCLUDED.expiry_date,
+                updated_at = EXCLUDED.updated_at
+            RETURNING user_id
+            """, nativeQuery = true)
+    Optional<Long> upsertByUsername(String username, byte[] tokenDigest, LocalDateTime expiryDate, LocalDateTime now);
 
-    @Query("SELECT r.id FROM RefreshToken r WHERE r.user.username = :username")
-    Long findTokenIdByUserUsername(String username);
+    @Query(value = """
+            UPDATE refresh_token r SET
+                token = NULL,
+                token_digest = :newTokenDigest,
+                expiry_date = :expiryDate,
+                updated_at = :now
+            FROM public."user" u
+            WHERE u.id = r.user_id
+                AND (r.token_digest = :tokenDigest OR (:legacyRead AND r.token = :token))
+                AND r.expiry_date > :now
+            RETURNING u.username
+            """, nativeQuery = true)
+    Optional<String> rotate(byte[] tokenDigest, String token, boolean legacyRead,
+                            byte[] newTokenDigest, LocalDateTime expiryDate, LocalDateTime now);
 
-    @Query("SELECT r.user.username FROM RefreshToken r WHERE r.token = :token")
-    String findUsernameByToken(String token);
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM refresh_token
+            WHERE token_digest = :tokenDigest OR (:legacyRead AND token = :token)
+            """, nativeQuery = true)
+    int deleteByTokenDigest(byte[] tokenDigest, String token, boolean legacyRead);
 
-    void deleteByToken(String token);
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM refresh_token
+            WHERE id IN (
+                SELECT id FROM refresh_token
+                WHERE expiry_date < :now
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime now, int batchSize);
 }
@@ -1,15 +1,32 @@
 package com.gym.crm.app.repository;
 
 import com.gym.crm.app.entity.Trainee;
+import com.gym.crm.app.repository.projection.TraineeIdView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TraineeRepository extends JpaRepository<Trainee, Long> {
+public interface TraineeRepository extends JpaRepository<Trainee, Long>, TraineeRepositoryCustom {
 
     Optional<Trainee> findByUserUsername(String username);
 
+    @Query("SELECT t.id FROM Trainee t WHERE t.user.username = :username")
+    Optional<Long> findIdByUserUsername(String username);
+
+    @Query("SELECT tr.id FROM Trainee t LEFT JOIN t.trainers tr WHERE t.user.username = :username")
+    List<Long> findTrainerIdsByUserUsername(String username);
+
+    @Query("SELECT new com.gym.crm.app.repository.projection.TraineeIdView(t.id, u.username) " +
+            "FROM Trainee t JOIN t.user u WHERE u.username IN :usernames")
+    List<TraineeIdView> findIdViewsByUsernames(Collection<String> usernames);
+
+    @Query(value = "SELECT trainer_id FROM public.trainee_trainer WHERE trainee_id = :traineeId", nativeQuery = true)
+    List<Long> findTrainerIdsByTraineeId(Long traineeId);
+
     void deleteByUserUsername(String username);
 }
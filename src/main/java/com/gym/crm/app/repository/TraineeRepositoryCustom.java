@@ -0,0 +1,14 @@
+package com.gym.crm.app.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+public interface TraineeRepositoryCustom {
+
+    void assignTrainers(Long traineeId, Collection<Long> trainerIds);
+
+    void unassignTrainers(Long traineeId, Collection<Long> trainerIds);
+
+    void assignTrainersIfAbsent(Map<Long, Set<Long>> trainerIdsByTraineeId, int batchSize);
+}
@@ -0,0 +1,53 @@
+package com.gym.crm.app.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class TraineeRepositoryCustomImpl implements TraineeRepositoryCustom {
+
+    private static final String INSERT_ASSIGNMENT = "INSERT INTO public.trainee_trainer (trainee_id, trainer_id) VALUES (?, ?) " +
+            "ON CONFLICT ON CONSTRAINT unique_trainee_trainer DO NOTHING";
+    private static final String DELETE_ASSIGNMENT = "DELETE FROM public.trainee_trainer WHERE trainee_id = ? AND trainer_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void assignTrainers(Long traineeId, Collection<Long> trainerIds) {
+        batchUpdate(INSERT_ASSIGNMENT, traineeId, trainerIds);
+    }
+
+    @Override
+    public void unassignTrainers(Long traineeId, Collection<Long> trainerIds) {
+        batchUpdate(DELETE_ASSIGNMENT, traineeId, trainerIds);
+    }
+
+    @Override
+    public void assignTrainersIfAbsent(Map<Long, Set<Long>> trainerIdsByTraineeId, int batchSize) {
+        List<long[]> assignments = trainerIdsByTraineeId.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream().map(trainerId -> new long[]{entry.getKey(), trainerId}))
+                .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT, assignments, batchSize, (ps, assignment) -> {
+            ps.setLong(1, assignment[0]);
+            ps.setLong(2, assignment[1]);
+        });
+    }
+
+    private void batchUpdate(String sql, Long traineeId, Collection<Long> trainerIds) {
+        if (trainerIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = trainerIds.stream()
+                .map(trainerId -> new Object[]{traineeId, trainerId})
+                .toList();
+
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+}
@@ -1,10 +1,14 @@
 package com.gym.crm.app.repository;
 
 import com.gym.crm.app.entity.Trainer;
+import com.gym.crm.app.repository.projection.TrainerIdView;
+import com.gym.crm.app.repository.projection.TrainerView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +17,28 @@ public interface TrainerRepository extends JpaRepository<Trainer, Long> {
 
     Optional<Trainer> findByUserUsername(String username);
 
-    @Query("FROM Trainer t WHERE t NOT IN (" +
-            "SELECT t.trainers FROM Trainee t WHERE t.user.username = :username)")
-    List<Trainer> getTrainersNotAssignedByTraineeUsername(String username);
+    @Query("SELECT new com.gym.crm.app.repository.projection.TrainerView(t.id, u.username, u.firstName, u.lastName, s.trainingTypeName) " +
+            "FROM Trainer t JOIN t.user u LEFT JOIN t.specialization s " +
+            "WHERE u.isActive = true " +
+            "AND (:specialization IS NULL OR s.trainingTypeName = :specialization)")
+    List<TrainerView> findActiveTrainerViews(String specialization);
+
+    @Query("SELECT new com.gym.crm.app.repository.projection.TrainerView(t.id, u.username, u.firstName, u.lastName, s.trainingTypeName) " +
+            "FROM Trainer t JOIN t.user u LEFT JOIN t.specialization s " +
+            "WHERE u.isActive = true " +
+            "AND (:specialization IS NULL OR s.trainingTypeName = :specialization) " +
+            "AND (:afterUsername IS NULL OR u.username > :afterUsername) " +
+            "AND NOT EXISTS (SELECT 1 FROM Trainee tr JOIN tr.trainers assigned " +
+            "WHERE tr.user.username = :traineeUsername AND assigned.id = t.id) " +
+            "ORDER BY u.username")
+    List<TrainerView> findAvailableTrainerViews(String traineeUsername, String specialization, String afterUsername, Limit limit);
+
+    @Query("SELECT new com.gym.crm.app.repository.projection.TrainerView(t.id, u.username, u.firstName, u.lastName, s.trainingTypeName) " +
+            "FROM Trainer t JOIN t.user u LEFT JOIN t.specialization s " +
+            "WHERE u.username IN :usernames")
+    List<TrainerView> findTrainerViewsByUsernames(Collection<String> usernames);
+
+    @Query("SELECT new com.gym.crm.app.repository.projection.TrainerIdView(t.id, u.username, s.id) " +
+            "FROM Trainer t JOIN t.user u LEFT JOIN t.specialization s WHERE u.username IN :usernames")
+    List<TrainerIdView> findIdViewsByUsernames(Collection<String> usernames);
 }
@@ -6,5 +6,5 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TrainingRepository extends JpaRepository<Training, Long>, JpaSpecificationExecutor<Training> {
+public interface TrainingRepository extends JpaRepository<Training, Long>, JpaSpecificationExecutor<Training>, TrainingRepositoryCustom {
 }
@@ -0,0 +1,21 @@
+package com.gym.crm.app.repository;
+
+import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.repository.projection.TrainingView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TrainingRepositoryCustom {
+
+    List<TrainingView> findViews(Specification<Training> specification, Sort sort, Limit limit);
+
+    Stream<TrainingView> streamViews(Specification<Training> specification, Sort sort, int fetchSize);
+
+    List<Long> allocateIds(int count);
+
+    void insertAll(List<Training> trainings, int batchSize);
+}
@@ -0,0 +1,111 @@
+package com.gym.crm.app.repository;
+
+import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.repository.projection.TrainingView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static jakarta.persistence.criteria.JoinType.LEFT;
+import static java.util.Objects.nonNull;
+
+@RequiredArgsConstructor
+public class TrainingRepositoryCustomImpl implements TrainingRepositoryCustom {
+
+    private static final String ALLOCATE_ID_BLOCKS = "SELECT nextval('public." + Training.ID_SEQUENCE + "') FROM generate_series(1, ?)";
+    private static final String INSERT_TRAINING = "INSERT INTO public.training " +
+            "(id, trainee_id, trainer_id, training_name, training_type_id, training_date, training_duration) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TrainingView> findViews(Specification<Training> specification, Sort sort, Limit limit) {
+        TypedQuery<TrainingView> query = createViewQuery(specification, sort);
+
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<TrainingView> streamViews(Specification<Training> specification, Sort sort, int fetchSize) {
+        return createViewQuery(specification, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public List<Long> allocateIds(int count) {
+        int blocks = (count + Training.ID_ALLOCATION_SIZE - 1) / Training.ID_ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(ALLOCATE_ID_BLOCKS, Long.class, blocks);
+
+        // pooled-lo: every sequence value is the first id of a block of ID_ALLOCATION_SIZE ids
+        return blockStarts.stream()
+                .flatMap(start -> LongStream.range(start, start + Training.ID_ALLOCATION_SIZE).boxed())
+                .limit(count)
+                .toList();
+    }
+
+    @Override
+    public void insertAll(List<Training> trainings, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_TRAINING, trainings, batchSize, (ps, training) -> {
+            ps.setLong(1, training.getId());
+            ps.setLong(2, training.getTrainee().getId());
+            ps.setLong(3, training.getTrainer().getId());
+            ps.setString(4, training.getTrainingName());
+            ps.setLong(5, training.getTrainingType().getId());
+            ps.setObject(6, training.getTrainingDate());
+            ps.setInt(7, training.getTrainingDuration());
+        });
+    }
+
+    private TypedQuery<TrainingView> createViewQuery(Specification<Training> specification, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TrainingView> query = criteriaBuilder.createQuery(TrainingView.class);
+        Root<Training> root = query.from(Training.class);
+
+        Join<Object, Object> trainerUser = root.join("trainer", LEFT).join("user", LEFT);
+        Join<Object, Object> traineeUser = root.join("trainee", LEFT).join("user", LEFT);
+        Join<Object, Object> trainingType = root.join("trainingType", LEFT);
+
+        query.select(criteriaBuilder.construct(TrainingView.class,
+                root.get("id"),
+                root.get("trainingName"),
+                root.get("trainingDate"),
+                trainingType.get("trainingTypeName"),
+                root.get("trainingDuration"),
+                trainerUser.get("firstName"),
+                traineeUser.get("firstName")));
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (nonNull(predicate)) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query);
+    }
+}
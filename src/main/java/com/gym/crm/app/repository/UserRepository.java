@@ -1,17 +1,22 @@
 package com.gym.crm.app.repository;
 
 import com.gym.crm.app.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @EntityGraph(attributePaths = "roles")
     Optional<User> findByUsername(String username);
 
-    List<User> findAllByUsernameContains(String username);
+    @Query("SELECT u.isActive FROM User u WHERE u.username = :username")
+    Optional<Boolean> findIsActiveByUsername(String username);
+
+    boolean existsByUsername(String username);
 
 }
@@ -0,0 +1,19 @@
+package com.gym.crm.app.repository;
+
+import com.gym.crm.app.entity.UsernameCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UsernameCounterRepository extends JpaRepository<UsernameCounter, String> {
+
+    @Query(value = """
+            INSERT INTO username_counter (base_name, last_serial)
+            VALUES (:baseName, 0)
+            ON CONFLICT (base_name) DO UPDATE SET
+                last_serial = username_counter.last_serial + 1
+            RETURNING last_serial
+            """, nativeQuery = true)
+    long nextSerial(String baseName);
+}
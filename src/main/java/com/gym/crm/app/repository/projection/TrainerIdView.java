@@ -0,0 +1,4 @@
+package com.gym.crm.app.repository.projection;
+
+public record TrainerIdView(Long id, String username, Long specializationId) {
+}
@@ -0,0 +1,8 @@
+package com.gym.crm.app.repository.projection;
+
+public record TrainerView(Long id,
+                          String username,
+                          String firstName,
+                          String lastName,
+                          String specialization) {
+}
@@ -0,0 +1,12 @@
+package com.gym.crm.app.repository.projection;
+
+import java.time.LocalDate;
+
+public record TrainingView(Long id,
+                           String trainingName,
+                           LocalDate trainingDate,
+                           String trainingType,
+                           Integer trainingDuration,
+                           String trainerName,
+                           String traineeName) {
+}
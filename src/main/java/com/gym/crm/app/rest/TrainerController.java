@@ -10,6 +10,7 @@ import com.gym.crm.app.rest.model.UserCredentials;
 import com.gym.crm.app.rest.model.ValidationError;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -54,12 +55,18 @@ public interface TrainerController {
                                                                       UpdateTrainerProfileRequest request,
                                                                       BindingResult bindingResult);
 
-    @Parameter(description = "Username of the trainee", required = true)
+    @Parameter(name = "username", description = "Username of the trainee", required = true)
+    @Parameter(name = "specialization", description = "Filter trainers by specialization")
+    @Parameter(name = "cursor", description = "Continuation token from the X-Next-Cursor header of the previous page")
+    @Parameter(name = "limit", description = "Maximum number of trainers per page, all trainers are returned when omitted")
     @Operation(summary = "Get active trainers not assigned to trainee", description = "Retrieve a list of active trainers who are not assigned to a specific trainee by username.")
-    @ApiResponse(responseCode = "200", description = "List of active trainers retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TrainerProfileWithUsername.class)))
+    @ApiResponse(responseCode = "200", description = "List of active trainers retrieved successfully", headers = @Header(name = "X-Next-Cursor", description = "Continuation token for the next page"), content = @Content(mediaType = "application/json", schema = @Schema(type = "array", implementation = TrainerProfileWithUsername.class)))
     @ApiResponse(responseCode = "400", description = "Invalid username", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "401", description = "Unauthorized access", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "403", description = "Forbidden access", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
-    ResponseEntity<List<TrainerProfileWithUsername>> getTrainersNotAssigned(String username);
+    ResponseEntity<List<TrainerProfileWithUsername>> getTrainersNotAssigned(String username,
+                                                                            String specialization,
+                                                                            String cursor,
+                                                                            Integer limit);
 }
@@ -1,12 +1,15 @@
 package com.gym.crm.app.rest;
 
 import com.gym.crm.app.rest.model.AddTrainingRequest;
+import com.gym.crm.app.rest.model.BulkTrainingResponse;
 import com.gym.crm.app.rest.model.ErrorResponse;
 import com.gym.crm.app.rest.model.GetTraineeTrainingsResponse;
 import com.gym.crm.app.rest.model.GetTrainerTrainingsResponse;
 import com.gym.crm.app.rest.model.ValidationError;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -14,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -27,7 +31,9 @@ public interface TrainingController {
     @Parameter(name = "periodTo", description = "End date of the training period")
     @Parameter(name = "trainerName", description = "Filter trainings by trainer's name")
     @Parameter(name = "trainingType", description = "Filter trainings by type")
-    @ApiResponse(responseCode = "200", description = "Successful retrieval of trainee trainings", content = @Content(mediaType = "application/json", schema = @Schema(type = "array", implementation = GetTraineeTrainingsResponse.class)))
+    @Parameter(name = "cursor", description = "Continuation token from the X-Next-Cursor header of the previous page")
+    @Parameter(name = "limit", description = "Maximum number of trainings per page")
+    @ApiResponse(responseCode = "200", description = "Successful retrieval of trainee trainings", headers = @Header(name = "X-Next-Cursor", description = "Continuation token for the next page"), content = @Content(mediaType = "application/json", schema = @Schema(type = "array", implementation = GetTraineeTrainingsResponse.class)))
     @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "401", description = "Unauthorized access", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "403", description = "Access forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
@@ -36,14 +42,18 @@ public interface TrainingController {
                                                                           LocalDate periodFrom,
                                                                           LocalDate periodTo,
                                                                           String trainerName,
-                                                                          String trainingType);
+                                                                          String trainingType,
+                                                                          String cursor,
+                                                                          Integer limit);
 
     @Operation(summary = "Get trainer trainings list", description = "Retrieve the list of trainings for a specific trainer")
     @Parameter(name = "username", description = "The username of the trainer", required = true)
     @Parameter(name = "periodFrom", description = "Start date of the training period")
     @Parameter(name = "periodTo", description = "End date of the training period")
     @Parameter(name = "traineeName", description = "Filter trainings by trainee's name")
-    @ApiResponse(responseCode = "200", description = "Successful retrieval of trainer trainings", content = @Content(mediaType = "application/json", schema = @Schema(type = "array", implementation = GetTrainerTrainingsResponse.class)))
+    @Parameter(name = "cursor", description = "Continuation token from the X-Next-Cursor header of the previous page")
+    @Parameter(name = "limit", description = "Maximum number of trainings per page")
+    @ApiResponse(responseCode = "200", description = "Successful retrieval of trainer trainings", headers = @Header(name = "X-Next-Cursor", description = "Continuation token for the next page"), content = @Content(mediaType = "application/json", schema = @Schema(type = "array", implementation = GetTrainerTrainingsResponse.class)))
     @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "401", description = "Unauthorized access", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "403", description = "Access forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
@@ -51,7 +61,22 @@ public interface TrainingController {
     ResponseEntity<List<GetTrainerTrainingsResponse>> getTrainerTrainings(String username,
                                                                           LocalDate periodFrom,
                                                                           LocalDate periodTo,
-                                                                          String trainerName);
+                                                                          String trainerName,
+                                                                          String cursor,
+                                                                          Integer limit);
+
+    @Operation(summary = "Export training history", description = "Stream the training history of the authenticated trainer as NDJSON or CSV")
+    @Parameter(name = "trainerUsername", description = "Username of the authenticated trainer, defaults to it when omitted")
+    @Parameter(name = "format", description = "Export format: ndjson or csv")
+    @ApiResponse(responseCode = "200", description = "Training history stream", content = {
+            @Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string")),
+            @Content(mediaType = "text/csv", schema = @Schema(type = "string"))})
+    @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized access", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Access forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    ResponseEntity<StreamingResponseBody> exportTrainings(String trainerUsername,
+                                                          String format);
 
     @Operation(summary = "Add training", description = "Create a new training session")
     @RequestBody(description = "Request to create a new training", required = true, content = @Content(mediaType = "application/json", schema = @Schema(implementation = AddTrainingRequest.class)))
@@ -62,4 +87,13 @@ public interface TrainingController {
     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     ResponseEntity<?> createTraining(AddTrainingRequest trainingRequest,
                                      BindingResult bindingResult);
+
+    @Operation(summary = "Add trainings in bulk", description = "Create a batch of training sessions, rows that fail validation are reported and skipped")
+    @RequestBody(description = "Trainings to create", required = true, content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AddTrainingRequest.class))))
+    @ApiResponse(responseCode = "200", description = "Batch processed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkTrainingResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized access", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Access forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    ResponseEntity<BulkTrainingResponse> createTrainings(List<AddTrainingRequest> trainingRequests);
 }
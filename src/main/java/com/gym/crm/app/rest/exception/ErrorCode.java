@@ -19,10 +19,15 @@ public enum ErrorCode {
     TRAINER_WITH_USERNAME_NOT_FOUND(40022),
     TRAINER_CREATE_ERROR(40023),
     TRAINER_UPDATE_ERROR(40024),
+    INVALID_TRAINER_CURSOR(40025),
     TRAINING_WITH_ID_NOT_FOUND(40031),
     TRAINING_CREATE_ERROR(40033),
+    INVALID_TRAINING_CURSOR(40034),
+    UNSUPPORTED_EXPORT_FORMAT(40035),
+    TRAINING_BATCH_TOO_LARGE(40036),
     USER_WITH_USERNAME_NOT_FOUND(400101),
     USER_WITH_ID_NOT_FOUND(400102),
+    USERNAME_ALLOCATION_ERROR(400103),
     TRAINING_TYPE_NAME_NOT_FOUND(40071),
     ACTIVATE_DEACTIVATE_PROFILE_ERROR(40041),
     AUTHENTICATION_ERROR(40061),
@@ -36,7 +41,8 @@ public enum ErrorCode {
     EXPIRED_ACCESS_TOKEN(400202),
     REFRESH_TOKEN_NOT_FOUND(400303),
     INVALID_REFRESH_TOKEN(400301),
-    TOO_MANY_FAILED_LOGIN_ATTEMPTS(403002);
+    TOO_MANY_FAILED_LOGIN_ATTEMPTS(403002),
+    PASSWORD_HASHING_OVERLOADED(503001);
 
     ErrorCode(final int code) {
         this.code = code;
@@ -5,7 +5,6 @@ import com.gym.crm.app.facade.ServiceFacade;
 import com.gym.crm.app.facade.validator.AccessTokenValidator;
 import com.gym.crm.app.facade.validator.ActivateDeactivateProfileValidator;
 import com.gym.crm.app.facade.validator.ChangePasswordValidator;
-import com.gym.crm.app.facade.validator.RefreshTokenValidator;
 import com.gym.crm.app.facade.validator.UserCredentialsValidator;
 import com.gym.crm.app.rest.AuthController;
 import com.gym.crm.app.rest.model.ActivateDeactivateProfileRequest;
@@ -52,7 +51,6 @@ public class AuthControllerV1 implements AuthController {
     private final ChangePasswordValidator changePasswordValidator;
     private final UserCredentialsValidator userCredentialsValidator;
     private final ActivateDeactivateProfileValidator activateDeactivateProfileValidator;
-    private final RefreshTokenValidator refreshTokenValidator;
     private final AccessTokenValidator accessTokenValidator;
 
     @InitBinder("changePasswordRequest")
@@ -127,15 +125,14 @@ public class AuthControllerV1 implements AuthController {
                                                 String token,
                                                 HttpServletRequest request) {
         String authorization = request.getHeader("Authorization");
-        refreshTokenValidator.validate(token);
         accessTokenValidator.validate(authorization);
 
+        RefreshTokenService.RotatedToken rotatedToken = refreshTokenService.rotate(token);
         invalidateAccessToken(authorization);
 
-        String username = refreshTokenService.findUsernameByToken(token);
         HttpHeaders headers = new HttpHeaders();
-        accessToken(username, headers);
-        refreshToken(username, headers);
+        accessToken(rotatedToken.username(), headers);
+        addRefreshTokenToCookies(rotatedToken.token(), headers);
 
         return ResponseEntity.status(HttpStatus.OK).headers(headers).build();
     }
@@ -11,6 +11,7 @@ import com.gym.crm.app.rest.model.TrainerProfileWithUsername;
 import com.gym.crm.app.rest.model.UpdateTrainerProfileRequest;
 import com.gym.crm.app.rest.model.UpdateTrainerProfileResponse;
 import com.gym.crm.app.rest.model.UserCredentials;
+import com.gym.crm.app.service.search.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -35,6 +37,8 @@ import static com.gym.crm.app.security.AuthenticatedUserUtil.getAuthenticatedUse
 @RequiredArgsConstructor
 public class TrainerControllerV1 implements TrainerController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ServiceFacade service;
     private final CreateTrainerValidator createTrainerValidator;
     private final UpdateTrainerValidator updateTrainerValidator;
@@ -79,9 +83,17 @@ public class TrainerControllerV1 implements TrainerController {
 
     @Override
     @GetMapping("/not-assigned/{username}")
-    public ResponseEntity<List<TrainerProfileWithUsername>> getTrainersNotAssigned(@PathVariable String username) {
-        List<TrainerProfileWithUsername> trainers = service.getTrainersNotAssignedByTraineeUsername(username);
+    public ResponseEntity<List<TrainerProfileWithUsername>> getTrainersNotAssigned(@PathVariable String username,
+                                                                                   @RequestParam(name = "specialization", required = false) String specialization,
+                                                                                   @RequestParam(name = "cursor", required = false) String cursor,
+                                                                                   @RequestParam(name = "limit", required = false) Integer limit) {
+        CursorPage<TrainerProfileWithUsername> trainers = service.getTrainersNotAssignedByTraineeUsername(username, specialization, cursor, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (trainers.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, trainers.nextCursor());
+        }
 
-        return ResponseEntity.status(HttpStatus.OK).body(trainers);
+        return response.body(trainers.content());
     }
 }
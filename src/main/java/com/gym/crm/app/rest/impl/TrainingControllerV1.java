@@ -1,13 +1,20 @@
 package com.gym.crm.app.rest.impl;
 
+import com.gym.crm.app.entity.User;
 import com.gym.crm.app.facade.ServiceFacade;
 import com.gym.crm.app.rest.TrainingController;
 import com.gym.crm.app.rest.model.AddTrainingRequest;
+import com.gym.crm.app.rest.model.BulkTrainingResponse;
 import com.gym.crm.app.rest.model.GetTraineeTrainingsResponse;
 import com.gym.crm.app.rest.model.GetTrainerTrainingsResponse;
 import com.gym.crm.app.facade.validator.CreateTrainingValidator;
+import com.gym.crm.app.service.export.TrainingExportFormat;
+import com.gym.crm.app.service.search.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
@@ -20,15 +27,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
 
+import static com.gym.crm.app.security.AuthenticatedUserUtil.getAuthenticatedUser;
+
 @RestController
 @RequestMapping("${api.base-path}/trainings")
 @RequiredArgsConstructor
 public class TrainingControllerV1 implements TrainingController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ServiceFacade service;
     private final CreateTrainingValidator createTrainingValidator;
 
@@ -43,10 +55,12 @@ public class TrainingControllerV1 implements TrainingController {
                                                                                  @RequestParam(name = "periodFrom", required = false) LocalDate periodFrom,
                                                                                  @RequestParam(name = "periodTo", required = false) LocalDate periodTo,
                                                                                  @RequestParam(name = "profileName", required = false) String trainerName,
-                                                                                 @RequestParam(name = "trainingType", required = false) String trainingType) {
-        List<GetTraineeTrainingsResponse> trainings = service.getTraineeTrainingsByCriteria(username, periodFrom, periodTo, trainerName, trainingType);
+                                                                                 @RequestParam(name = "trainingType", required = false) String trainingType,
+                                                                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                                                                 @RequestParam(name = "limit", required = false) Integer limit) {
+        CursorPage<GetTraineeTrainingsResponse> trainings = service.getTraineeTrainingsByCriteria(username, periodFrom, periodTo, trainerName, trainingType, cursor, limit);
 
-        return ResponseEntity.status(HttpStatus.OK).body(trainings);
+        return toResponse(trainings);
     }
 
     @Override
@@ -54,10 +68,29 @@ public class TrainingControllerV1 implements TrainingController {
     public ResponseEntity<List<GetTrainerTrainingsResponse>> getTrainerTrainings(@PathVariable String username,
                                                                                  @RequestParam(name = "periodFrom", required = false) LocalDate periodFrom,
                                                                                  @RequestParam(name = "periodTo", required = false) LocalDate periodTo,
-                                                                                 @RequestParam(name = "profileName", required = false) String trainerName) {
-        List<GetTrainerTrainingsResponse> trainings = service.getTrainerTrainingsByCriteria(username, periodFrom, periodTo, trainerName);
+                                                                                 @RequestParam(name = "profileName", required = false) String trainerName,
+                                                                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                                                                 @RequestParam(name = "limit", required = false) Integer limit) {
+        CursorPage<GetTrainerTrainingsResponse> trainings = service.getTrainerTrainingsByCriteria(username, periodFrom, periodTo, trainerName, cursor, limit);
+
+        return toResponse(trainings);
+    }
+
+    @Override
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTrainings(@RequestParam(name = "trainerUsername", required = false) String trainerUsername,
+                                                                 @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format) {
+        User sessionUser = getAuthenticatedUser();
+        TrainingExportFormat exportFormat = TrainingExportFormat.from(format);
+        StreamingResponseBody body = service.exportTrainings(trainerUsername, exportFormat, sessionUser);
 
-        return ResponseEntity.status(HttpStatus.OK).body(trainings);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("trainings." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @Override
@@ -68,4 +101,21 @@ public class TrainingControllerV1 implements TrainingController {
 
         return ResponseEntity.status(HttpStatus.OK).build();
     }
+
+    @Override
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTrainingResponse> createTrainings(@RequestBody List<AddTrainingRequest> trainingRequests) {
+        BulkTrainingResponse response = service.addTrainings(trainingRequests);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    private static <T> ResponseEntity<List<T>> toResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+
+        return response.body(page.content());
+    }
 }
@@ -1,6 +1,7 @@
 package com.gym.crm.app.security;
 
 import com.gym.crm.app.exception.AuthenticationException;
+import com.gym.crm.app.exception.PasswordHashingRejectedException;
 import com.gym.crm.app.rest.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,6 +23,8 @@ public class AuthService {
                     new UsernamePasswordAuthenticationToken(username, password);
 
             return authenticationManager.authenticate(authToken);
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (Exception e) {
             throw new AuthenticationException(INVALID_USERNAME_OR_PASSWORD, ErrorCode.INVALID_USERNAME_OR_PASSWORD.getCode(), e);
         }
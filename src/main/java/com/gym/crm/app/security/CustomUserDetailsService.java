@@ -1,29 +1,51 @@
 package com.gym.crm.app.security;
 
+import com.gym.crm.app.entity.User;
 import com.gym.crm.app.exception.AuthenticationException;
 import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.rest.exception.ErrorCode;
 import com.gym.crm.app.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private static final String INVALID_USERNAME_OR_PASSWORD = "Invalid username or password";
 
     private final UserService userService;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) {
         return retrieveUserByUsername(username);
     }
 
+    public UserDetails loadTokenUserByUsername(String username) {
+        return userDetailsCache.get(username, this::retrieveUserWithoutCredentials);
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = ((User) userDetails).toBuilder().password(newPassword).build();
+
+        userService.update(user);
+
+        return user;
+    }
+
+    private UserDetails retrieveUserWithoutCredentials(String username) {
+        User user = (User) retrieveUserByUsername(username);
+
+        return user.toBuilder().password(null).build();
+    }
+
     private UserDetails retrieveUserByUsername(String username) {
         try {
             return userService.findByUsername(username);
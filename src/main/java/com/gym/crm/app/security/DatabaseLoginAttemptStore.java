@@ -0,0 +1,96 @@
+package com.gym.crm.app.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gym.crm.app.repository.LoginAttemptRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "login.block.store", havingValue = "database")
+public class DatabaseLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String CACHE_NAME = "loginBlocks";
+    private static final long NOT_BLOCKED = 0L;
+
+    private final LoginAttemptRepository attemptRepository;
+    private final Cache<String, Long> blockedUntilCache;
+    private final Duration window;
+
+    public DatabaseLoginAttemptStore(LoginAttemptRepository attemptRepository,
+                                     MeterRegistry registry,
+                                     @Value("${login.block.window:5m}") Duration window,
+                                     @Value("${login.block.near-cache.ttl:5s}") Duration nearCacheTtl,
+                                     @Value("${login.block.near-cache.max-size:10000}") long nearCacheMaxSize) {
+        this.attemptRepository = attemptRepository;
+        this.window = window;
+        this.blockedUntilCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfterWrite(nearCacheTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, blockedUntilCache, CACHE_NAME);
+    }
+
+    @Override
+    @Transactional
+    public long recordFailure(String username, long now) {
+        return attemptRepository.incrementFailures(
+                username,
+                toLocalDateTime(now),
+                toLocalDateTime(now - window.toMillis()),
+                toLocalDateTime(now + window.toMillis()));
+    }
+
+    @Override
+    @Transactional
+    public void block(String username, long until) {
+        attemptRepository.block(username, toLocalDateTime(until));
+        blockedUntilCache.asMap().merge(username, until, Math::max);
+    }
+
+    @Override
+    public boolean isBlocked(String username, long now) {
+        long blockedUntil = blockedUntilCache.get(username, this::loadBlockedUntil);
+
+        return blockedUntil > now;
+    }
+
+    @Override
+    @Transactional
+    public void reset(String username) {
+        attemptRepository.deleteById(username);
+        blockedUntilCache.invalidate(username);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${login.block.cleanup-interval:PT10M}")
+    public void deleteExpired() {
+        int deleted = attemptRepository.deleteExpired(LocalDateTime.now());
+
+        log.debug("Deleted {} expired login attempt records", deleted);
+    }
+
+    private long loadBlockedUntil(String username) {
+        return attemptRepository.findBlockedUntilByUsername(username)
+                .map(blockedUntil -> blockedUntil.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .orElse(NOT_BLOCKED);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
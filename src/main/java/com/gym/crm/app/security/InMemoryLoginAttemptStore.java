@@ -0,0 +1,132 @@
+package com.gym.crm.app.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.gym.crm.app.util.SlidingWindowCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+@Component
+@ConditionalOnProperty(name = "login.block.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String CACHE_NAME = "loginAttempts";
+    private static final int WINDOW_BUCKETS = 10;
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<String, AttemptInfo> attemptsCache;
+    private final Duration window;
+
+    public InMemoryLoginAttemptStore(MeterRegistry registry,
+                                     @Value("${login.block.window:5m}") Duration window,
+                                     @Value("${login.block.max-memory:16MB}") DataSize maxMemory) {
+        this.window = window;
+        this.attemptsCache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((String username, AttemptInfo attemptInfo) -> ENTRY_OVERHEAD_BYTES + 2 * username.length())
+                .expireAfter(new AttemptExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, attemptsCache, CACHE_NAME);
+    }
+
+    @Override
+    public long recordFailure(String username, long now) {
+        AttemptInfo attemptInfo = attemptsCache.get(username, key -> new AttemptInfo(window));
+
+        return attemptInfo.recordFailure(now);
+    }
+
+    @Override
+    public void block(String username, long until) {
+        AttemptInfo attemptInfo = attemptsCache.get(username, key -> new AttemptInfo(window));
+        attemptInfo.blockUntil(until);
+        attemptsCache.put(username, attemptInfo);
+    }
+
+    @Override
+    public boolean isBlocked(String username, long now) {
+        AttemptInfo attemptInfo = attemptsCache.getIfPresent(username);
+        if (isNull(attemptInfo) || !attemptInfo.hasBeenBlocked()) {
+            return false;
+        }
+
+        if (attemptInfo.isBlocked(now)) {
+            return true;
+        }
+
+        attemptsCache.asMap().remove(username, attemptInfo);
+        return false;
+    }
+
+    @Override
+    public void reset(String username) {
+        attemptsCache.invalidate(username);
+    }
+
+    private static class AttemptInfo {
+
+        private final SlidingWindowCounter failures;
+        private final AtomicLong blockedUntil = new AtomicLong();
+
+        private AttemptInfo(Duration window) {
+            this.failures = new SlidingWindowCounter(window, WINDOW_BUCKETS);
+        }
+
+        private long recordFailure(long now) {
+            return failures.incrementAndSum(now);
+        }
+
+        private void blockUntil(long until) {
+            blockedUntil.accumulateAndGet(until, Math::max);
+        }
+
+        private boolean hasBeenBlocked() {
+            return blockedUntil.get() > 0;
+        }
+
+        private boolean isBlocked(long now) {
+            return blockedUntil.get() > now;
+        }
+
+        private long remainingBlockMillis(long now) {
+            return Math.max(blockedUntil.get() - now, 0);
+        }
+    }
+
+    private class AttemptExpiry implements Expiry<String, AttemptInfo> {
+
+        @Override
+        public long expireAfterCreate(String username, AttemptInfo attemptInfo, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(window.toMillis());
+        }
+
+        @Override
+        public long expireAfterUpdate(String username, AttemptInfo attemptInfo, long currentTime, long currentDuration) {
+            return timeToLive(attemptInfo);
+        }
+
+        @Override
+        public long expireAfterRead(String username, AttemptInfo attemptInfo, long currentTime, long currentDuration) {
+            return timeToLive(attemptInfo);
+        }
+
+        private long timeToLive(AttemptInfo attemptInfo) {
+            long remainingBlockMillis = attemptInfo.remainingBlockMillis(System.currentTimeMillis());
+
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(window.toMillis(), remainingBlockMillis));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.gym.crm.app.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.transport", havingValue = "in-process")
+public class InProcessTokenRevocationTransport implements TokenRevocationTransport {
+
+    private final List<TokenRevocationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(long revocationId) {
+        listeners.forEach(listener -> listener.onRevoked(revocationId));
+    }
+
+    @Override
+    public void subscribe(TokenRevocationListener listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,171 @@
+package com.gym.crm.app.security;
+
+import com.gym.crm.app.entity.JwtSigningKey;
+import com.gym.crm.app.repository.JwtSigningKeyRepository;
+import com.gym.crm.app.security.JwtKeyRingProperties.ConfiguredKey;
+import com.gym.crm.app.service.common.CryptoPrimitives;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final int SECRET_LENGTH = 32;
+    private static final String KID_PREFIX = "k";
+    private static final int ACTIVATION_REFRESH_CYCLES = 2;
+
+    private final JwtSigningKeyRepository signingKeyRepository;
+    private final JwtKeyRingProperties properties;
+    private final CryptoPrimitives cryptoPrimitives;
+
+    private volatile KeySnapshot snapshot;
+
+    @Value("${jwt.access.duration}")
+    private Duration accessTokenDuration;
+
+    @PostConstruct
+    public void init() {
+        if (properties.getSource() == JwtKeyRingProperties.Source.CONFIG) {
+            snapshot = loadConfiguredKeys();
+        } else {
+            validateOverlap();
+            refresh();
+        }
+
+        log.info("JWT key ring loaded with {} keys, signing with kid {}", snapshot.keys().size(), snapshot.signingKey().kid());
+    }
+
+    public SigningKey signingKey() {
+        return snapshot.signingKey();
+    }
+
+    public int size() {
+        return snapshot.keys().size();
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        SecretKey key = isNull(kid) ? null : snapshot.keys().get(kid);
+
+        if (isNull(key)) {
+            throw new SignatureException("Unknown JWT signing key id: " + kid);
+        }
+
+        return key;
+    }
+
+    @Scheduled(
+            initialDelayString = "${jwt.key-ring.refresh-interval:PT1M}",
+            fixedDelayString = "${jwt.key-ring.refresh-interval:PT1M}")
+    public void refresh() {
+        if (properties.getSource() != JwtKeyRingProperties.Source.DATABASE) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<JwtSigningKey> keys = signingKeyRepository.findAllUsable(now);
+
+        String currentKid = currentPeriodKid(now);
+        if (keys.stream().noneMatch(key -> key.getKid().equals(currentKid))) {
+            rotate(currentKid, keys.isEmpty() ? now : now.plus(properties.getRefreshInterval().multipliedBy(ACTIVATION_REFRESH_CYCLES)), now);
+            keys = signingKeyRepository.findAllUsable(now);
+        }
+
+        snapshot = KeySnapshot.of(keys, now);
+    }
+
+    private void validateOverlap() {
+        if (properties.getOverlap().compareTo(accessTokenDuration) < 0) {
+            throw new IllegalStateException("JWT key ring overlap " + properties.getOverlap()
+                    + " is shorter than access token duration " + accessTokenDuration);
+        }
+    }
+
+    private void rotate(String kid, LocalDateTime activatesAt, LocalDateTime now) {
+        String secret = Encoders.BASE64.encode(cryptoPrimitives.randomBytes(SECRET_LENGTH));
+
+        if (signingKeyRepository.insertIfAbsent(kid, secret, activatesAt) > 0) {
+            log.info("Published JWT signing key {} activating at {}", kid, activatesAt);
+        }
+
+        signingKeyRepository.retireAllExcept(kid, activatesAt.plus(properties.getOverlap()));
+        signingKeyRepository.deleteRetired(now);
+    }
+
+    private String currentPeriodKid(LocalDateTime now) {
+        long epochMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        return KID_PREFIX + epochMillis / properties.getRotationPeriod().toMillis();
+    }
+
+    private KeySnapshot loadConfiguredKeys() {
+        List<ConfiguredKey> configuredKeys = properties.getKeys();
+
+        if (configuredKeys.isEmpty()) {
+            log.warn("No JWT signing keys configured, tokens will only be accepted by this instance until restart");
+            String kid = "ephemeral-" + Encoders.BASE64URL.encode(cryptoPrimitives.randomBytes(6));
+            SecretKey key = Keys.hmacShaKeyFor(cryptoPrimitives.randomBytes(SECRET_LENGTH));
+
+            return new KeySnapshot(new SigningKey(kid, key), Map.of(kid, key));
+        }
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        configuredKeys.forEach(key -> keys.put(key.getKid(), Keys.hmacShaKeyFor(Decoders.BASE64.decode(key.getSecret()))));
+
+        String activeKid = nonNull(properties.getActiveKid())
+                ? properties.getActiveKid()
+                : configuredKeys.get(configuredKeys.size() - 1).getKid();
+        SecretKey activeKey = keys.get(activeKid);
+
+        if (isNull(activeKey)) {
+            throw new IllegalStateException("Active JWT signing key " + activeKid + " is not configured");
+        }
+
+        return new KeySnapshot(new SigningKey(activeKid, activeKey), Map.copyOf(keys));
+    }
+
+    public record SigningKey(String kid, SecretKey key) {
+    }
+
+    private record KeySnapshot(SigningKey signingKey, Map<String, SecretKey> keys) {
+
+        private static KeySnapshot of(List<JwtSigningKey> signingKeys, LocalDateTime now) {
+            Map<String, SecretKey> keys = new HashMap<>();
+            signingKeys.forEach(key -> keys.put(key.getKid(), Keys.hmacShaKeyFor(Decoders.BASE64.decode(key.getSecret()))));
+
+            JwtSigningKey active = signingKeys.stream()
+                    .filter(key -> !key.getActivatesAt().isAfter(now))
+                    .max(Comparator.comparing(JwtSigningKey::getActivatesAt))
+                    .or(() -> signingKeys.stream().min(Comparator.comparing(JwtSigningKey::getActivatesAt)))
+                    .orElseThrow(() -> new IllegalStateException("JWT key ring is empty"));
+
+            return new KeySnapshot(new SigningKey(active.getKid(), keys.get(active.getKid())), Map.copyOf(keys));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.gym.crm.app.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.key-ring")
+public class JwtKeyRingProperties {
+
+    private Source source = Source.DATABASE;
+    private String activeKid;
+    private List<ConfiguredKey> keys = new ArrayList<>();
+    private Duration rotationPeriod = Duration.ofDays(7);
+    private Duration overlap = Duration.ofMinutes(30);
+    private Duration refreshInterval = Duration.ofMinutes(1);
+
+    public enum Source {
+        CONFIG, DATABASE
+    }
+
+    @Getter
+    @Setter
+    public static class ConfiguredKey {
+        private String kid;
+        private String secret;
+    }
+}
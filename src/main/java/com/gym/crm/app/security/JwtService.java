@@ -1,9 +1,13 @@
 package com.gym.crm.app.security;
 
-import com.auth0.jwt.JWT;
 import com.gym.crm.app.entity.JwtBlackToken;
+import com.gym.crm.app.entity.Role;
+import com.gym.crm.app.entity.User;
 import com.gym.crm.app.repository.JwtBlackTokenRepository;
+import com.gym.crm.app.service.UserService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,61 +15,117 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.SecretKey;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
 
 @Service
 @RequiredArgsConstructor
 public class JwtService {
-    private final SecretKey key = Jwts.SIG.HS256.key().build();
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ACTIVE_CLAIM = "active";
+    private static final String ROLES_CLAIM = "roles";
+
+    private final JwtKeyRing keyRing;
     private final JwtBlackTokenRepository blackTokenRepository;
+    private final TokenRevocationIndex revocationIndex;
+    private final TokenRevocationTransport revocationTransport;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserService userService;
 
     @Value("${jwt.access.duration}")
     private Duration duration;
 
+    @Value("${jwt.stateless.enabled:false}")
+    private boolean statelessEnabled;
+
     @Transactional
     public String generateToken(String username) {
         Date expiration = new Date(System.currentTimeMillis() + duration.toMillis());
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .issuer("application")
-                .expiration(expiration)
-                .signWith(key, Jwts.SIG.HS256)
+                .expiration(expiration);
+
+        if (statelessEnabled) {
+            addUserClaims(builder, userService.findByUsername(username));
+        }
+
+        return builder
+                .signWith(signingKey.key(), Jwts.SIG.HS256)
                 .compact();
     }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    private void addUserClaims(JwtBuilder builder, User user) {
+        List<String> roles = user.getRoles().stream()
+                .map(Role::getRole)
+                .toList();
+
+        builder.claim(USER_ID_CLAIM, user.getId())
+                .claim(ACTIVE_CLAIM, user.isActive())
+                .claim(ROLES_CLAIM, roles);
     }
 
-    private Date extractExpiration(String token) {
-        return JWT.decode(token).getExpiresAt();
+    public boolean isStateless(Claims claims) {
+        return statelessEnabled && nonNull(claims.get(USER_ID_CLAIM));
+    }
+
+    public User extractUser(Claims claims, boolean active) {
+        List<?> roleNames = claims.get(ROLES_CLAIM, List.class);
+        Set<Role> roles = roleNames.stream()
+                .map(roleName -> {
+                    Role role = new Role();
+                    role.setRole(roleName.toString());
+                    return role;
+                })
+                .collect(Collectors.toSet());
+
+        return User.builder()
+                .id(((Number) claims.get(USER_ID_CLAIM)).longValue())
+                .username(claims.getSubject())
+                .isActive(active)
+                .roles(roles)
+                .build();
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public Claims verify(String token) {
+        Claims claims = verifiedTokenCache.get(token);
+        if (nonNull(claims) && !isExpired(claims)) {
+            return claims;
+        }
+
+        claims = Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token).getPayload();
+        verifiedTokenCache.put(token, claims);
+
+        return claims;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    private Date extractExpiration(String token) {
+        try {
+            return verify(token).getExpiration();
+        } catch (ExpiredJwtException e) {
+            return e.getClaims().getExpiration();
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    @Transactional(readOnly = true)
-    public Boolean isValid(String token, String username) {
-        return !isTokenBlacklisted(token) && !isTokenExpired(token) && extractUsername(token).equals(username);
+    public boolean isValid(String token, Claims claims) {
+        return !isTokenBlacklisted(token) && !isExpired(claims);
     }
 
     public boolean isPresentValidAccessToken(String authorization) {
@@ -80,23 +140,24 @@ public class JwtService {
     public void addTokenToBlackList(String token) {
         Date expiration = extractExpiration(token);
 
+        LocalDateTime expiryDate = expiration.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+
         JwtBlackToken blackToken = JwtBlackToken.builder()
-                .token(token)
-                .expiryDate(expiration.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime())
+                .tokenDigest(TokenDigestUtil.digest(token))
+                .expiryDate(expiryDate)
                 .build();
 
-        blackTokenRepository.save(blackToken);
+        JwtBlackToken savedToken = blackTokenRepository.save(blackToken);
+        revocationIndex.add(token, expiryDate);
+        revocationTransport.publish(savedToken.getId());
     }
 
-    @Transactional(readOnly = true)
     public boolean isTokenBlacklisted(String token) {
-        return blackTokenRepository.existsByToken(token);
+        return revocationIndex.isRevoked(token);
     }
 
-    @Transactional
     @Scheduled(fixedRate = 3_600_000)
-    public void removeExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        blackTokenRepository.deleteByExpiryDateBefore(now);
+    public void evictExpiredTokens() {
+        revocationIndex.evictExpired(LocalDateTime.now());
     }
 }
@@ -0,0 +1,12 @@
+package com.gym.crm.app.security;
+
+public interface LoginAttemptStore {
+
+    long recordFailure(String username, long now);
+
+    void block(String username, long until);
+
+    boolean isBlocked(String username, long now);
+
+    void reset(String username);
+}
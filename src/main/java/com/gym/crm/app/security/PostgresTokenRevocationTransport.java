@@ -0,0 +1,152 @@
+package com.gym.crm.app.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.isNull;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.transport", havingValue = "postgres", matchIfMissing = true)
+public class PostgresTokenRevocationTransport implements TokenRevocationTransport {
+
+    private static final String LISTENER_THREAD_NAME = "token-revocation-listener";
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final List<TokenRevocationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Thread listenerThread = new Thread(this::listenLoop, LISTENER_THREAD_NAME);
+
+    private volatile boolean running = true;
+
+    public PostgresTokenRevocationTransport(DataSource dataSource,
+                                            JdbcTemplate jdbcTemplate,
+                                            @Value("${jwt.revocation.channel:token_revocations}") String channel,
+                                            @Value("${jwt.revocation.poll-timeout:5s}") Duration pollTimeout,
+                                            @Value("${jwt.revocation.reconnect-delay:5s}") Duration reconnectDelay) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid revocation channel name: " + channel);
+        }
+
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        listenerThread.interrupt();
+        listenerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Override
+    public void publish(long revocationId) {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, Long.toString(revocationId));
+    }
+
+    @Override
+    public void subscribe(TokenRevocationListener listener) {
+        listeners.add(listener);
+    }
+
+    private void listenLoop() {
+        boolean reconnect = false;
+
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+
+                if (reconnect) {
+                    log.info("Reconnected to revocation channel {}, resyncing", channel);
+                    notifyListeners(TokenRevocationListener::onResync);
+                }
+
+                reconnect = true;
+                receive(connection.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                log.warn("Revocation channel {} connection lost: {}", channel, e.getMessage());
+                sleepBeforeReconnect();
+            } catch (RuntimeException e) {
+                log.error("Revocation channel {} listener failed, reconnecting", channel, e);
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void receive(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications((int) pollTimeout.toMillis());
+            if (isNull(notifications)) {
+                continue;
+            }
+
+            for (PGNotification notification : notifications) {
+                dispatch(notification.getParameter());
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        long revocationId;
+        try {
+            revocationId = Long.parseLong(payload);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed notification on revocation channel {}: {}", channel, payload);
+            return;
+        }
+
+        notifyListeners(listener -> listener.onRevoked(revocationId));
+    }
+
+    private void notifyListeners(Consumer<TokenRevocationListener> action) {
+        for (TokenRevocationListener listener : listeners) {
+            try {
+                action.accept(listener);
+            } catch (RuntimeException e) {
+                log.error("Revocation listener failed", e);
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
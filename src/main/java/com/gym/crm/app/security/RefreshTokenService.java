@@ -1,11 +1,8 @@
 package com.gym.crm.app.security;
 
-import com.gym.crm.app.entity.RefreshToken;
-import com.gym.crm.app.entity.User;
 import com.gym.crm.app.exception.RefreshTokenException;
 import com.gym.crm.app.repository.RefreshTokenRepository;
 import com.gym.crm.app.rest.exception.ErrorCode;
-import com.gym.crm.app.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -13,51 +10,60 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
+import static java.util.Objects.isNull;
+
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private static final String REFRESH_TOKEN_NOT_FOUND = "Refresh token not found";
+    private static final String INVALID_REFRESH_TOKEN = "Invalid Refresh Token";
+    private static final String USER_NOT_FOUND = "User not found";
 
     private final RefreshTokenRepository repository;
-    private final UserService userService;
 
     @Value("${jwt.refresh.duration}")
     private Duration duration;
 
+    @Value("${jwt.token-digest.legacy-read:true}")
+    private boolean legacyRead;
+
     @Transactional
     public String generateToken(String username) {
-        User user = userService.findByUsername(username);
-        Long tokenId = repository.findTokenIdByUserUsername(username);
-
         String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .id(tokenId)
-                .user(user)
-                .token(token)
-                .expiryDate(LocalDateTime.now().plus(duration.toMillis(), ChronoUnit.MILLIS))
-                .build();
+        repository.upsertByUsername(username, TokenDigestUtil.digest(token), now.plus(duration), now)
+                .orElseThrow(() -> new RefreshTokenException(USER_NOT_FOUND, ErrorCode.USER_WITH_USERNAME_NOT_FOUND.getCode()));
 
-        return repository.save(refreshToken).getToken();
+        return token;
     }
 
-    @Transactional(readOnly = true)
-    public RefreshToken findByToken(String token) {
-        return repository.findByToken(token)
-                .orElseThrow(() -> new RefreshTokenException(REFRESH_TOKEN_NOT_FOUND, ErrorCode.REFRESH_TOKEN_NOT_FOUND.getCode()));
-    }
+    @Transactional
+    public RotatedToken rotate(String token) {
+        if (isNull(token)) {
+            throw new RefreshTokenException(INVALID_REFRESH_TOKEN, ErrorCode.INVALID_REFRESH_TOKEN.getCode());
+        }
 
-    @Transactional(readOnly = true)
-    public String findUsernameByToken(String token) {
-        return repository.findUsernameByToken(token);
+        String newToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+
+        return repository.rotate(TokenDigestUtil.digest(token), token, legacyRead,
+                        TokenDigestUtil.digest(newToken), now.plus(duration), now)
+                .map(username -> new RotatedToken(username, newToken))
+                .orElseThrow(() -> new RefreshTokenException(INVALID_REFRESH_TOKEN, ErrorCode.INVALID_REFRESH_TOKEN.getCode()));
     }
 
     @Transactional
     public void deleteByToken(String token) {
-        repository.deleteByToken(token);
+        if (isNull(token)) {
+            return;
+        }
+
+        repository.deleteByTokenDigest(TokenDigestUtil.digest(token), token, legacyRead);
+    }
+
+    public record RotatedToken(String username, String token) {
     }
 }
@@ -7,6 +7,7 @@ import com.gym.crm.app.filter.MetricsFilter;
 import com.gym.crm.app.filter.RestLoggingFilter;
 import com.gym.crm.app.filter.TransactionLoggingFilter;
 import com.gym.crm.app.rest.exception.ErrorResponse;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -50,6 +51,7 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .userDetailsService(userDetailsService)
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(EXCLUDED_URLS.toArray(new String[0])).permitAll()
                         .requestMatchers("/swagger-ui", "/v1/api-docs").hasAnyRole("ADMIN")
                         .anyRequest().authenticated())
@@ -0,0 +1,36 @@
+package com.gym.crm.app.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class TokenDigestUtil {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(TokenDigestUtil::newDigest);
+
+    public static byte[] digest(String token) {
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+
+        return digest.digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String digestAsString(String token) {
+        return encode(digest(token));
+    }
+
+    public static String encode(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.gym.crm.app.security;
+
+import com.gym.crm.app.repository.JwtBlackTokenRepository;
+import com.gym.crm.app.repository.RefreshTokenRepository;
+import com.gym.crm.app.service.common.AdvisoryLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Component
+public class TokenHousekeeper {
+
+    private static final long LOCK_KEY = 0x746F6B656E5357L;
+    private static final String BLACK_LIST_TABLE = "jwt_black_list";
+    private static final String REFRESH_TOKEN_TABLE = "refresh_token";
+
+    private final JwtBlackTokenRepository blackTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AdvisoryLockService advisoryLockService;
+    private final MeterRegistry registry;
+    private final Timer sweepTimer;
+    private final int batchSize;
+    private final Duration pause;
+
+    private volatile boolean running = true;
+
+    public TokenHousekeeper(JwtBlackTokenRepository blackTokenRepository,
+                            RefreshTokenRepository refreshTokenRepository,
+                            AdvisoryLockService advisoryLockService,
+                            MeterRegistry registry,
+                            @Value("${jwt.housekeeping.batch-size:1000}") int batchSize,
+                            @Value("${jwt.housekeeping.pause:100ms}") Duration pause) {
+        this.blackTokenRepository = blackTokenRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.advisoryLockService = advisoryLockService;
+        this.registry = registry;
+        this.sweepTimer = registry.timer("token_sweep_duration_seconds");
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    @Scheduled(
+            initialDelayString = "${jwt.housekeeping.initial-delay:PT5M}",
+            fixedDelayString = "${jwt.housekeeping.interval:PT1H}")
+    public void sweep() {
+        boolean leader = advisoryLockService.runExclusively(LOCK_KEY, () -> sweepTimer.record(this::sweepTables));
+
+        if (!leader) {
+            log.debug("Token sweep skipped, another node holds the housekeeping lock");
+        }
+    }
+
+    private void sweepTables() {
+        LocalDateTime now = LocalDateTime.now();
+
+        sweepTable(BLACK_LIST_TABLE, now, blackTokenRepository::deleteExpiredBatch);
+        sweepTable(REFRESH_TOKEN_TABLE, now, refreshTokenRepository::deleteExpiredBatch);
+    }
+
+    private void sweepTable(String table, LocalDateTime now, BiFunction<LocalDateTime, Integer, Integer> deleteBatch) {
+        long total = 0;
+        int deleted;
+
+        do {
+            deleted = deleteBatch.apply(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize && running && pauseBetweenBatches());
+
+        registry.counter("token_sweep_deleted_total", "table", table).increment(total);
+        log.info("Token sweep removed {} expired rows from {}", total, table);
+    }
+
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.gym.crm.app.security;
+
+import com.gym.crm.app.entity.JwtBlackToken;
+import com.gym.crm.app.repository.JwtBlackTokenRepository;
+import com.gym.crm.app.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationIndex {
+
+    private final JwtBlackTokenRepository blackTokenRepository;
+    private final Map<String, RevokedToken> revokedTokens = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile BloomFilter bloomFilter;
+
+    @Value("${jwt.revocation.expected-tokens:100000}")
+    private int expectedTokens;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @PostConstruct
+    public void init() {
+        List<JwtBlackToken> tokens = blackTokenRepository.findAllByExpiryDateAfter(LocalDateTime.now());
+
+        synchronized (writeLock) {
+            tokens.forEach(token -> putToken(digestOf(token), token.getExpiryDate()));
+            rebuildBloomFilter();
+        }
+
+        log.info("Token revocation index seeded with {} revoked tokens", tokens.size());
+    }
+
+    public void add(String token, LocalDateTime expiryDate) {
+        addDigest(TokenDigestUtil.digest(token), expiryDate);
+    }
+
+    public void apply(JwtBlackToken token) {
+        addDigest(digestOf(token), token.getExpiryDate());
+    }
+
+    public boolean isRevoked(String token) {
+        byte[] digest = TokenDigestUtil.digest(token);
+        if (!bloomFilter.mightContain(bloomHash(digest))) {
+            return false;
+        }
+
+        return nonNull(revokedTokens.get(TokenDigestUtil.encode(digest)));
+    }
+
+    public void evictExpired(LocalDateTime now) {
+        synchronized (writeLock) {
+            revokedTokens.values().removeIf(token -> token.expiryDate().isBefore(now));
+            rebuildBloomFilter();
+        }
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    private void addDigest(byte[] digest, LocalDateTime expiryDate) {
+        synchronized (writeLock) {
+            RevokedToken revokedToken = putToken(digest, expiryDate);
+            bloomFilter.put(revokedToken.bloomHash());
+        }
+    }
+
+    private RevokedToken putToken(byte[] digest, LocalDateTime expiryDate) {
+        RevokedToken revokedToken = new RevokedToken(bloomHash(digest), expiryDate);
+        revokedTokens.put(TokenDigestUtil.encode(digest), revokedToken);
+
+        return revokedToken;
+    }
+
+    private static byte[] digestOf(JwtBlackToken token) {
+        return nonNull(token.getTokenDigest()) ? token.getTokenDigest() : TokenDigestUtil.digest(token.getToken());
+    }
+
+    private static long bloomHash(byte[] digest) {
+        return ByteBuffer.wrap(digest).getLong();
+    }
+
+    private void rebuildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, revokedTokens.size() * 2), falsePositiveRate);
+        revokedTokens.values().forEach(token -> rebuilt.put(token.bloomHash()));
+
+        bloomFilter = rebuilt;
+    }
+
+    private record RevokedToken(long bloomHash, LocalDateTime expiryDate) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.gym.crm.app.security;
+
+public interface TokenRevocationListener {
+
+    void onRevoked(long revocationId);
+
+    void onResync();
+}
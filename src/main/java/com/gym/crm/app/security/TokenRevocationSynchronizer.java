@@ -0,0 +1,40 @@
+package com.gym.crm.app.security;
+
+import com.gym.crm.app.entity.JwtBlackToken;
+import com.gym.crm.app.repository.JwtBlackTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationSynchronizer implements TokenRevocationListener {
+
+    private final JwtBlackTokenRepository blackTokenRepository;
+    private final TokenRevocationIndex revocationIndex;
+    private final TokenRevocationTransport revocationTransport;
+
+    @PostConstruct
+    public void start() {
+        revocationTransport.subscribe(this);
+    }
+
+    @Override
+    public void onRevoked(long revocationId) {
+        blackTokenRepository.findById(revocationId)
+                .ifPresent(revocationIndex::apply);
+    }
+
+    @Override
+    public void onResync() {
+        List<JwtBlackToken> tokens = blackTokenRepository.findAllByExpiryDateAfter(LocalDateTime.now());
+        tokens.forEach(revocationIndex::apply);
+
+        log.debug("Revocation index resynced with {} unexpired tokens", tokens.size());
+    }
+}
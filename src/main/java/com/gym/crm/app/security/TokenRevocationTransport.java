@@ -0,0 +1,8 @@
+package com.gym.crm.app.security;
+
+public interface TokenRevocationTransport {
+
+    void publish(long revocationId);
+
+    void subscribe(TokenRevocationListener listener);
+}
@@ -0,0 +1,33 @@
+package com.gym.crm.app.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.gym.crm.app.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class UserStateCache {
+
+    private final LoadingCache<String, Optional<Boolean>> cache;
+
+    public UserStateCache(UserService userService,
+                          @Value("${jwt.stateless.user-state-ttl:30s}") Duration ttl,
+                          @Value("${jwt.stateless.user-state-max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build(userService::findActiveStateByUsername);
+    }
+
+    public Optional<Boolean> findActiveState(String username) {
+        return cache.get(username);
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+}
@@ -1,7 +1,9 @@
 package com.gym.crm.app.service;
 
 import com.gym.crm.app.entity.Trainee;
-import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.repository.projection.TrainerView;
+import com.gym.crm.app.repository.projection.TrainingView;
+import com.gym.crm.app.service.search.CursorPage;
 import com.gym.crm.app.service.search.TraineeTrainingSearchFilter;
 
 import java.util.List;
@@ -12,12 +14,14 @@ public interface TraineeService {
 
     Trainee findByUsername(String username);
 
-    List<Training> findTrainingByCriteria(TraineeTrainingSearchFilter searchFilter);
+    CursorPage<TrainingView> findTrainingByCriteria(TraineeTrainingSearchFilter searchFilter);
 
     void save(Trainee trainee);
 
     Trainee update(Trainee trainee);
 
+    List<TrainerView> updateTrainers(String username, List<String> trainerUsernames);
+
     void deleteById(Long id);
 
     void deleteByUsername(String username);
@@ -1,9 +1,13 @@
 package com.gym.crm.app.service;
 
 import com.gym.crm.app.entity.Trainer;
-import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.repository.projection.TrainerView;
+import com.gym.crm.app.repository.projection.TrainingView;
+import com.gym.crm.app.service.search.CursorPage;
+import com.gym.crm.app.service.search.TrainerCursor;
 import com.gym.crm.app.service.search.TrainerTrainingSearchFilter;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TrainerService {
@@ -12,9 +16,11 @@ public interface TrainerService {
 
     Trainer findByUsername(String username);
 
-    List<Training> findTrainingByCriteria(TrainerTrainingSearchFilter searchFilter);
+    CursorPage<TrainingView> findTrainingByCriteria(TrainerTrainingSearchFilter searchFilter);
 
-    List<Trainer> getTrainersNotAssignedByTraineeUsername(String username);
+    List<TrainerView> findAllByUsernames(Collection<String> usernames);
+
+    CursorPage<TrainerView> getTrainersNotAssignedByTraineeUsername(String username, String specialization, TrainerCursor cursor, Integer limit);
 
     void save(Trainer trainer);
 
@@ -0,0 +1,11 @@
+package com.gym.crm.app.service;
+
+import com.gym.crm.app.service.export.TrainingExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TrainingExportService {
+
+    void export(String trainerUsername, TrainingExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,11 @@
+package com.gym.crm.app.service;
+
+import com.gym.crm.app.service.ingest.TrainingIngestResult;
+import com.gym.crm.app.service.ingest.TrainingIngestRow;
+
+import java.util.List;
+
+public interface TrainingIngestService {
+
+    TrainingIngestResult ingest(List<TrainingIngestRow> rows);
+}
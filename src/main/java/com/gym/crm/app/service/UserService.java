@@ -2,12 +2,16 @@ package com.gym.crm.app.service;
 
 import com.gym.crm.app.entity.User;
 
+import java.util.Optional;
+
 public interface UserService {
 
     User findById(Long id);
 
     User findByUsername(String username);
 
+    Optional<Boolean> findActiveStateByUsername(String username);
+
     User save(User user);
 
     User prepareUserForSave(User user, String password);
@@ -0,0 +1,50 @@
+package com.gym.crm.app.service.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdvisoryLockService {
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+
+    private final DataSource dataSource;
+
+    public boolean runExclusively(long lockKey, Runnable task) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!execute(connection, TRY_LOCK_SQL, lockKey)) {
+                return false;
+            }
+
+            try {
+                task.run();
+            } finally {
+                execute(connection, UNLOCK_SQL, lockKey);
+            }
+
+            return true;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Advisory lock " + lockKey + " could not be acquired", e);
+        }
+    }
+
+    private boolean execute(Connection connection, String sql, long lockKey) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, lockKey);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.gym.crm.app.service.common;
+
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class CryptoPrimitives {
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Map<PasswordHashAlgorithm, SecretKeyFactory>> secretKeyFactories =
+            ThreadLocal.withInitial(() -> new EnumMap<>(PasswordHashAlgorithm.class));
+
+    public SecretKeyFactory secretKeyFactory(PasswordHashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        Map<PasswordHashAlgorithm, SecretKeyFactory> factories = secretKeyFactories.get();
+        SecretKeyFactory factory = factories.get(algorithm);
+
+        if (isNull(factory)) {
+            factory = SecretKeyFactory.getInstance(algorithm.getJcaName());
+            factories.put(algorithm, factory);
+        }
+
+        return factory;
+    }
+
+    public byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        secureRandom.nextBytes(bytes);
+
+        return bytes;
+    }
+}
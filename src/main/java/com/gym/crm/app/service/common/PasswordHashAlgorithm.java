@@ -0,0 +1,25 @@
+package com.gym.crm.app.service.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum PasswordHashAlgorithm {
+
+    PBKDF2_SHA256("pbkdf2-sha256", "PBKDF2WithHmacSHA256", 256),
+    PBKDF2_SHA512("pbkdf2-sha512", "PBKDF2WithHmacSHA512", 512);
+
+    private final String id;
+    private final String jcaName;
+    private final int keyLength;
+
+    public static Optional<PasswordHashAlgorithm> fromId(String id) {
+        return Arrays.stream(values())
+                .filter(algorithm -> algorithm.id.equals(id))
+                .findFirst();
+    }
+}
@@ -0,0 +1,96 @@
+package com.gym.crm.app.service.common;
+
+import com.gym.crm.app.exception.PasswordHashingRejectedException;
+import com.gym.crm.app.exception.PasswordOperationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.gym.crm.app.rest.exception.ErrorCode.HASHED_ERROR;
+import static com.gym.crm.app.rest.exception.ErrorCode.PASSWORD_HASHING_OVERLOADED;
+
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String THREAD_NAME_TEMPLATE = "password-hashing-%d";
+    private static final String OVERLOADED_MESSAGE = "Password hashing capacity exceeded, try again later";
+    private static final String INTERRUPTED_MESSAGE = "Password hashing interrupted";
+
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(@Value("${security.password.hashing.pool-size:4}") int poolSize,
+                                   @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password.hashing.retry-after:1s}") Duration retryAfter,
+                                   MeterRegistry registry) {
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                queue, threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfter = retryAfter;
+        this.hashTimer = registry.timer("password_hash_duration_seconds");
+        this.rejectedCounter = registry.counter("password_hash_rejected_total");
+
+        registry.gauge("password_hash_queue_size", queue, BlockingQueue::size);
+        registry.gauge("password_hash_active_threads", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future = submit(task);
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordOperationException(INTERRUPTED_MESSAGE, HASHED_ERROR.getCode(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new PasswordOperationException(e.getMessage(), HASHED_ERROR.getCode(), e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Supplier<T> task) {
+        try {
+            return executor.submit(() -> hashTimer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException(OVERLOADED_MESSAGE, PASSWORD_HASHING_OVERLOADED.getCode(), retryAfter);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_TEMPLATE.formatted(counter.incrementAndGet()));
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.gym.crm.app.service.common;
 
 import com.gym.crm.app.exception.PasswordOperationException;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.text.RandomStringGenerator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -8,71 +9,86 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
-import java.security.SecureRandom;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Base64;
 
 import static com.gym.crm.app.rest.exception.ErrorCode.HASHED_ERROR;
 
 @Component
+@RequiredArgsConstructor
 public class PasswordUtils implements PasswordEncoder {
 
     private static final char[] LOWERCASE_LETTERS = {'a', 'z'};
     private static final char[] UPPER_LETTERS = {'A', 'Z'};
     private static final char[] DIGITS = {'0', '9'};
-
-    private static final String HASH_ALGORITHM = "PBKDF2WithHmacSHA256";
-    private static final int ITERATIONS = 100_000;
-    private static final int KEY_LENGTH = 256;
-
-    private static final String PASSWORD_PATTERN = "%s:%s";
-    private static final String SPLIT_REGEX = ":";
+    private static final RandomStringGenerator PASSWORD_GENERATOR = new RandomStringGenerator.Builder()
+            .withinRange(LOWERCASE_LETTERS, UPPER_LETTERS, DIGITS)
+            .get();
+    private static final int SALT_LENGTH = 16;
+
+    private static final PasswordHashAlgorithm LEGACY_ALGORITHM = PasswordHashAlgorithm.PBKDF2_SHA256;
+    private static final int LEGACY_ITERATIONS = 100_000;
+
+    private static final String VERSIONED_PREFIX = "$";
+    private static final String PASSWORD_PATTERN = VERSIONED_PREFIX + "%s$%d$%s$%s";
+    private static final String LEGACY_SPLIT_REGEX = ":";
+    private static final String SPLIT_REGEX = "\\$";
     private static final String HASHED_EXCEPTION = "Password cannot be hashed";
+    private static final String UNSUPPORTED_FORMAT_EXCEPTION = "Unsupported password hash format";
+
+    private final PasswordHashingExecutor hashingExecutor;
+    private final CryptoPrimitives cryptoPrimitives;
 
     @Value("${security.password.length}")
     private int passwordLength;
 
-    public String generatePassword() {
-        RandomStringGenerator generator = new RandomStringGenerator.Builder()
-                .withinRange(LOWERCASE_LETTERS, UPPER_LETTERS, DIGITS)
-                .get();
+    @Value("${security.password.hashing.algorithm:PBKDF2_SHA256}")
+    private PasswordHashAlgorithm algorithm;
+
+    @Value("${security.password.hashing.iterations:100000}")
+    private int iterations;
 
-        return generator.generate(passwordLength);
+    public String generatePassword() {
+        return PASSWORD_GENERATOR.generate(passwordLength);
     }
 
     public String hashPassword(String password) {
+        PasswordHashAlgorithm currentAlgorithm = algorithm;
+        int currentIterations = iterations;
+
         String salt = generateSalt();
-        String hashedPassword = hashPassword(password, salt);
+        String hashedPassword = hashingExecutor.execute(() -> hashPassword(password, salt, currentAlgorithm, currentIterations));
 
-        return PASSWORD_PATTERN.formatted(salt, hashedPassword);
+        return PASSWORD_PATTERN.formatted(currentAlgorithm.getId(), currentIterations, salt, hashedPassword);
     }
 
     public boolean isPasswordCorrect(String inputPassword, String storedPassword) {
-        String[] parts = storedPassword.split(SPLIT_REGEX);
-        String salt = parts[0];
-        String storedHash = parts[1];
+        EncodedPassword encoded = EncodedPassword.parse(storedPassword);
 
-        String inputHash = hashPassword(inputPassword, salt);
+        String inputHash = hashingExecutor.execute(() -> hashPassword(inputPassword, encoded.salt(), encoded.algorithm(), encoded.iterations()));
 
-        return inputHash.equals(storedHash);
+        return MessageDigest.isEqual(inputHash.getBytes(StandardCharsets.UTF_8), encoded.hash().getBytes(StandardCharsets.UTF_8));
     }
 
     private String generateSalt() {
-        SecureRandom random = new SecureRandom();
-
-        byte[] saltBytes = new byte[16];
-        random.nextBytes(saltBytes);
+        byte[] saltBytes = cryptoPrimitives.randomBytes(SALT_LENGTH);
 
         return Base64.getEncoder().encodeToString(saltBytes);
     }
 
-    private String hashPassword(String password, String salt) {
+    private String hashPassword(String password, String salt, PasswordHashAlgorithm algorithm, int iterations) {
         try {
-            PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt.getBytes(), ITERATIONS, KEY_LENGTH);
-            SecretKeyFactory factory = SecretKeyFactory.getInstance(HASH_ALGORITHM);
+            PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt.getBytes(), iterations, algorithm.getKeyLength());
+            SecretKeyFactory factory = cryptoPrimitives.secretKeyFactory(algorithm);
 
-            byte[] hashedPasswordBytes = factory.generateSecret(spec).getEncoded();
+            try {
+                byte[] hashedPasswordBytes = factory.generateSecret(spec).getEncoded();
 
-            return Base64.getEncoder().encodeToString(hashedPasswordBytes);
+                return Base64.getEncoder().encodeToString(hashedPasswordBytes);
+            } finally {
+                spec.clearPassword();
+            }
         } catch (Exception e) {
             throw new PasswordOperationException(HASHED_EXCEPTION, HASHED_ERROR.getCode(), e);
         }
@@ -87,4 +103,36 @@ public class PasswordUtils implements PasswordEncoder {
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
         return isPasswordCorrect(rawPassword.toString(), encodedPassword);
     }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (!encodedPassword.startsWith(VERSIONED_PREFIX)) {
+            return true;
+        }
+
+        EncodedPassword encoded = EncodedPassword.parse(encodedPassword);
+
+        return encoded.algorithm() != algorithm || encoded.iterations() != iterations;
+    }
+
+    private record EncodedPassword(PasswordHashAlgorithm algorithm, int iterations, String salt, String hash) {
+
+        private static EncodedPassword parse(String storedPassword) {
+            if (!storedPassword.startsWith(VERSIONED_PREFIX)) {
+                String[] parts = storedPassword.split(LEGACY_SPLIT_REGEX);
+
+                return new EncodedPassword(LEGACY_ALGORITHM, LEGACY_ITERATIONS, parts[0], parts[1]);
+            }
+
+            String[] parts = storedPassword.split(SPLIT_REGEX);
+            if (parts.length != 5) {
+                throw new PasswordOperationException(UNSUPPORTED_FORMAT_EXCEPTION, HASHED_ERROR.getCode(), null);
+            }
+
+            PasswordHashAlgorithm algorithm = PasswordHashAlgorithm.fromId(parts[1])
+                    .orElseThrow(() -> new PasswordOperationException(UNSUPPORTED_FORMAT_EXCEPTION, HASHED_ERROR.getCode(), null));
+
+            return new EncodedPassword(algorithm, Integer.parseInt(parts[2]), parts[3], parts[4]);
+        }
+    }
 }
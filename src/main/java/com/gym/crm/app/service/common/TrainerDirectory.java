@@ -0,0 +1,57 @@
+package com.gym.crm.app.service.common;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.gym.crm.app.repository.TrainerRepository;
+import com.gym.crm.app.repository.projection.TrainerView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+@Component
+public class TrainerDirectory {
+
+    private static final String CACHE_NAME = "trainerDirectory";
+    private static final String ALL_SPECIALIZATIONS = "";
+
+    private final TrainerRepository repository;
+    private final LoadingCache<String, List<TrainerView>> cache;
+
+    public TrainerDirectory(TrainerRepository repository,
+                            @Value("${trainer.directory.ttl:1m}") Duration ttl,
+                            @Value("${trainer.directory.max-size:100}") long maxSize,
+                            MeterRegistry registry) {
+        this.repository = repository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    public List<TrainerView> findActiveTrainers(@Nullable String specialization) {
+        return cache.get(isBlank(specialization) ? ALL_SPECIALIZATIONS : specialization);
+    }
+
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+
+    private List<TrainerView> load(String specialization) {
+        List<TrainerView> trainers = repository.findActiveTrainerViews(ALL_SPECIALIZATIONS.equals(specialization) ? null : specialization);
+
+        return trainers.stream()
+                .sorted(Comparator.comparing(TrainerView::username))
+                .toList();
+    }
+}
@@ -1,18 +1,34 @@
 package com.gym.crm.app.service.common;
 
-import com.gym.crm.app.repository.UserRepository;
+import com.gym.crm.app.entity.User;
+import com.gym.crm.app.exception.EntityValidationException;
+import com.gym.crm.app.logging.MessageHelper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.function.Function;
+
+import static com.gym.crm.app.rest.exception.ErrorCode.USERNAME_ALLOCATION_ERROR;
+import static com.gym.crm.app.util.Constants.ERROR_USERNAME_NOT_ALLOCATED;
+import static java.util.Objects.nonNull;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserProfileService {
 
     private static final String USERNAME_TEMPLATE = "%s.%s";
+    private static final String USERNAME_UNIQUE_CONSTRAINT = "unique_user_username";
 
     private final PasswordUtils passwordUtils;
-    private final UserRepository repository;
+    private final UsernameAllocator usernameAllocator;
+    private final MessageHelper messageHelper;
+
+    @Value("${user.username.max-attempts:10}")
+    private int maxAttempts;
 
     public String generatePassword() {
         return passwordUtils.generatePassword();
@@ -26,22 +42,38 @@ public class UserProfileService {
         return passwordUtils.isPasswordCorrect(inputPassword, storedPassword);
     }
 
-    @Transactional(readOnly = true)
     public String generateUsername(String firstName, String lastName) {
-        String username = USERNAME_TEMPLATE.formatted(firstName, lastName);
-
-        return isDuplicatedUsername(username)
-                ? addSerialNumberToUsername(username)
-                : username;
+        return usernameAllocator.allocate(USERNAME_TEMPLATE.formatted(firstName, lastName));
     }
 
-    private boolean isDuplicatedUsername(String username) {
-        return repository.findByUsername(username).isPresent();
+    /**
+     * Runs {@code save} and, when it fails on the username unique constraint, retries it with the next
+     * allocated username. {@code save} may be called several times, so it must not reuse entities that a
+     * failed attempt already persisted. On update this renames the profile, and the caller returns the new name.
+     */
+    public <T> T saveWithUniqueUsername(User user, Function<User, T> save) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return save.apply(user);
+            } catch (DataIntegrityViolationException e) {
+                if (!isUsernameConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    throw new EntityValidationException(messageHelper.getMessage(ERROR_USERNAME_NOT_ALLOCATED, user.getUsername()), USERNAME_ALLOCATION_ERROR.getCode());
+                }
+
+                log.debug("Username {} was taken concurrently, allocating next one", user.getUsername());
+                user = user.toBuilder()
+                        .username(generateUsername(user.getFirstName(), user.getLastName()))
+                        .build();
+            }
+        }
     }
 
-    private String addSerialNumberToUsername(String username) {
-        int serialNumber = repository.findAllByUsernameContains(username).size();
+    private static boolean isUsernameConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
 
-        return username + serialNumber;
+        return nonNull(message) && message.contains(USERNAME_UNIQUE_CONSTRAINT);
     }
 }
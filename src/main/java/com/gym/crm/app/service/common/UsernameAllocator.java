@@ -0,0 +1,43 @@
+package com.gym.crm.app.service.common;
+
+import com.gym.crm.app.exception.EntityValidationException;
+import com.gym.crm.app.logging.MessageHelper;
+import com.gym.crm.app.repository.UserRepository;
+import com.gym.crm.app.repository.UsernameCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.gym.crm.app.rest.exception.ErrorCode.USERNAME_ALLOCATION_ERROR;
+import static com.gym.crm.app.util.Constants.ERROR_USERNAME_NOT_ALLOCATED;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UsernameAllocator {
+
+    private final UsernameCounterRepository counterRepository;
+    private final UserRepository userRepository;
+    private final MessageHelper messageHelper;
+
+    @Value("${user.username.max-attempts:10}")
+    private int maxAttempts;
+
+    @Transactional
+    public String allocate(String baseName) {
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            long serial = counterRepository.nextSerial(baseName);
+            String username = serial == 0 ? baseName : baseName + serial;
+
+            if (!userRepository.existsByUsername(username)) {
+                return username;
+            }
+
+            log.debug("Username {} is already taken, allocating next serial", username);
+        }
+
+        throw new EntityValidationException(messageHelper.getMessage(ERROR_USERNAME_NOT_ALLOCATED, baseName), USERNAME_ALLOCATION_ERROR.getCode());
+    }
+}
@@ -0,0 +1,70 @@
+package com.gym.crm.app.service.export;
+
+import com.gym.crm.app.repository.projection.TrainingView;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.isNull;
+
+public class CsvTrainingExportWriter implements TrainingExportWriter {
+
+    private static final String HEADER = "id,trainingDate,trainingName,trainingType,trainingDuration,trainerName,traineeName";
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    public CsvTrainingExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(TrainingView training) throws IOException {
+        writer.write(String.valueOf(training.id()));
+        writer.write(',');
+        writer.write(String.valueOf(training.trainingDate()));
+        writer.write(',');
+        writeField(training.trainingName());
+        writer.write(',');
+        writeField(training.trainingType());
+        writer.write(',');
+        writeField(isNull(training.trainingDuration()) ? null : training.trainingDuration().toString());
+        writer.write(',');
+        writeField(training.trainerName());
+        writer.write(',');
+        writeField(training.traineeName());
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (isNull(value)) {
+            return;
+        }
+        if (!requiresQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean requiresQuoting(String value) {
+        return value.indexOf(',') >= 0
+                || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.gym.crm.app.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.gym.crm.app.repository.projection.TrainingView;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.util.Objects.nonNull;
+
+public class NdjsonTrainingExportWriter implements TrainingExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    public NdjsonTrainingExportWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(TrainingView training) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", training.id());
+        generator.writeStringField("trainingDate", training.trainingDate().toString());
+        generator.writeStringField("trainingName", training.trainingName());
+        generator.writeStringField("trainingType", training.trainingType());
+        if (nonNull(training.trainingDuration())) {
+            generator.writeNumberField("trainingDuration", training.trainingDuration());
+        } else {
+            generator.writeNullField("trainingDuration");
+        }
+        generator.writeStringField("trainerName", training.trainerName());
+        generator.writeStringField("traineeName", training.traineeName());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
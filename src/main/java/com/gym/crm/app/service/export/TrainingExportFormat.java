@@ -0,0 +1,36 @@
+package com.gym.crm.app.service.export;
+
+import com.gym.crm.app.exception.EntityValidationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import static com.gym.crm.app.rest.exception.ErrorCode.UNSUPPORTED_EXPORT_FORMAT;
+
+@Getter
+@RequiredArgsConstructor
+public enum TrainingExportFormat {
+
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String extension;
+    private final String mediaType;
+
+    public static TrainingExportFormat from(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.extension.equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new EntityValidationException("Unsupported export format: " + format, UNSUPPORTED_EXPORT_FORMAT.getCode()));
+    }
+
+    public TrainingExportWriter open(OutputStream out) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonTrainingExportWriter(out);
+            case CSV -> new CsvTrainingExportWriter(out);
+        };
+    }
+}
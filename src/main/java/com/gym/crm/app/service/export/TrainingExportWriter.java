@@ -0,0 +1,11 @@
+package com.gym.crm.app.service.export;
+
+import com.gym.crm.app.repository.projection.TrainingView;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface TrainingExportWriter extends Closeable {
+
+    void write(TrainingView training) throws IOException;
+}
@@ -1,20 +1,26 @@
 package com.gym.crm.app.service.impl;
 
 import com.gym.crm.app.entity.Trainee;
-import com.gym.crm.app.entity.Training;
 import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.logging.MessageHelper;
 import com.gym.crm.app.repository.TraineeRepository;
+import com.gym.crm.app.repository.projection.TrainerView;
+import com.gym.crm.app.repository.projection.TrainingView;
 import com.gym.crm.app.service.TraineeService;
+import com.gym.crm.app.service.TrainerService;
 import com.gym.crm.app.service.TrainingService;
 import com.gym.crm.app.service.common.EntityValidator;
+import com.gym.crm.app.service.search.CursorPage;
 import com.gym.crm.app.service.search.TraineeTrainingSearchFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINEE_WITH_ID_NOT_FOUND;
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINEE_WITH_USERNAME_NOT_FOUND;
@@ -32,6 +38,7 @@ public class TraineeServiceImpl implements TraineeService {
     private final TraineeRepository repository;
     private final EntityValidator validator;
     private final TrainingService trainingService;
+    private final TrainerService trainerService;
 
     @Override
     @Transactional(readOnly = true)
@@ -51,7 +58,7 @@ public class TraineeServiceImpl implements TraineeService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Training> findTrainingByCriteria(TraineeTrainingSearchFilter searchFilter) {
+    public CursorPage<TrainingView> findTrainingByCriteria(TraineeTrainingSearchFilter searchFilter) {
         validator.checkIfTraineeExist(searchFilter.getUsername());
 
         return trainingService.findAll(searchFilter);
@@ -74,6 +81,26 @@ public class TraineeServiceImpl implements TraineeService {
         return repository.save(trainee);
     }
 
+    @Override
+    @Transactional
+    public List<TrainerView> updateTrainers(String username, List<String> trainerUsernames) {
+        validator.checkEntity(username);
+
+        Long traineeId = repository.findIdByUserUsername(username)
+                .orElseThrow(() -> new EntityValidationException(messageHelper.getMessage(ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND, username), TRAINEE_WITH_USERNAME_NOT_FOUND.getCode()));
+        List<TrainerView> trainers = trainerService.findAllByUsernames(trainerUsernames);
+
+        Set<Long> requestedIds = trainers.stream()
+                .map(TrainerView::id)
+                .collect(Collectors.toSet());
+        Set<Long> assignedIds = new HashSet<>(repository.findTrainerIdsByTraineeId(traineeId));
+
+        repository.unassignTrainers(traineeId, difference(assignedIds, requestedIds));
+        repository.assignTrainers(traineeId, difference(requestedIds, assignedIds));
+
+        return trainers;
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
@@ -97,4 +124,10 @@ public class TraineeServiceImpl implements TraineeService {
 
         repository.deleteByUserUsername(username);
     }
+
+    private static List<Long> difference(Set<Long> ids, Set<Long> excluded) {
+        return ids.stream()
+                .filter(id -> !excluded.contains(id))
+                .toList();
+    }
 }
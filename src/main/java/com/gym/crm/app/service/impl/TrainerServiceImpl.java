@@ -1,24 +1,43 @@
 package com.gym.crm.app.service.impl;
 
 import com.gym.crm.app.entity.Trainer;
-import com.gym.crm.app.entity.Training;
 import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.logging.MessageHelper;
+import com.gym.crm.app.repository.TraineeRepository;
 import com.gym.crm.app.repository.TrainerRepository;
+import com.gym.crm.app.repository.projection.TrainerView;
+import com.gym.crm.app.repository.projection.TrainingView;
 import com.gym.crm.app.service.TrainerService;
 import com.gym.crm.app.service.TrainingService;
 import com.gym.crm.app.service.common.EntityValidator;
+import com.gym.crm.app.service.common.TrainerDirectory;
+import com.gym.crm.app.service.search.CursorPage;
+import com.gym.crm.app.service.search.TrainerCursor;
 import com.gym.crm.app.service.search.TrainerTrainingSearchFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.gym.crm.app.rest.exception.ErrorCode.TRAINEE_WITH_USERNAME_NOT_FOUND;
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINER_WITH_ID_NOT_FOUND;
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINER_WITH_USERNAME_NOT_FOUND;
+import static com.gym.crm.app.util.Constants.ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND;
 import static com.gym.crm.app.util.Constants.ERROR_TRAINER_WITH_ID_NOT_FOUND;
 import static com.gym.crm.app.util.Constants.ERROR_TRAINER_WITH_USERNAME_NOT_FOUND;
+import static java.util.Objects.isNull;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +47,14 @@ public class TrainerServiceImpl implements TrainerService {
     private final TrainerRepository repository;
     private final EntityValidator validator;
     private final TrainingService trainingService;
+    private final TraineeRepository traineeRepository;
+    private final TrainerDirectory trainerDirectory;
+
+    @Value("${trainer.directory.enabled:true}")
+    private boolean directoryEnabled;
+
+    @Value("${trainer.search.max-page-size:200}")
+    private int maxPageSize;
 
     @Override
     @Transactional(readOnly = true)
@@ -47,7 +74,7 @@ public class TrainerServiceImpl implements TrainerService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Training> findTrainingByCriteria(TrainerTrainingSearchFilter searchFilter) {
+    public CursorPage<TrainingView> findTrainingByCriteria(TrainerTrainingSearchFilter searchFilter) {
         validator.checkIfTrainerExist(searchFilter.getUsername());
 
         return trainingService.findAll(searchFilter);
@@ -55,10 +82,42 @@ public class TrainerServiceImpl implements TrainerService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Trainer> getTrainersNotAssignedByTraineeUsername(String username) {
+    public List<TrainerView> findAllByUsernames(Collection<String> usernames) {
+        Set<String> requestedUsernames = new LinkedHashSet<>(usernames);
+        if (requestedUsernames.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, TrainerView> trainers = repository.findTrainerViewsByUsernames(requestedUsernames).stream()
+                .collect(Collectors.toMap(TrainerView::username, Function.identity()));
+
+        return requestedUsernames.stream()
+                .map(username -> Optional.ofNullable(trainers.get(username))
+                        .orElseThrow(() -> new EntityValidationException(messageHelper.getMessage(ERROR_TRAINER_WITH_USERNAME_NOT_FOUND, username), TRAINER_WITH_USERNAME_NOT_FOUND.getCode())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TrainerView> getTrainersNotAssignedByTraineeUsername(String username, String specialization, TrainerCursor cursor, Integer limit) {
         validator.checkEntity(username);
 
-        return repository.getTrainersNotAssignedByTraineeUsername(username);
+        String afterUsername = isNull(cursor) ? null : cursor.username();
+        Integer pageSize = resolvePageSize(limit);
+
+        if (!directoryEnabled) {
+            validator.checkIfTraineeExist(username);
+            Limit fetchLimit = isNull(pageSize) ? Limit.unlimited() : Limit.of(pageSize + 1);
+
+            return toPage(repository.findAvailableTrainerViews(username, specialization, afterUsername, fetchLimit), pageSize);
+        }
+
+        Set<Long> assignedTrainerIds = findAssignedTrainerIds(username);
+        Stream<TrainerView> available = trainerDirectory.findActiveTrainers(specialization).stream()
+                .filter(trainer -> isNull(afterUsername) || trainer.username().compareTo(afterUsername) > 0)
+                .filter(trainer -> !assignedTrainerIds.contains(trainer.id()));
+
+        return toPage(isNull(pageSize) ? available.toList() : available.limit(pageSize + 1L).toList(), pageSize);
     }
 
     @Override
@@ -77,4 +136,28 @@ public class TrainerServiceImpl implements TrainerService {
 
         return repository.save(trainer);
     }
+
+    private Set<Long> findAssignedTrainerIds(String traineeUsername) {
+        List<Long> trainerIds = traineeRepository.findTrainerIdsByUserUsername(traineeUsername);
+        if (trainerIds.isEmpty()) {
+            throw new EntityValidationException(messageHelper.getMessage(ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND, traineeUsername), TRAINEE_WITH_USERNAME_NOT_FOUND.getCode());
+        }
+
+        // a trainee without trainers comes back as a single null row from the left join
+        return trainerIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private Integer resolvePageSize(Integer limit) {
+        return isNull(limit) ? null : Math.min(Math.max(limit, 1), maxPageSize);
+    }
+
+    private static CursorPage<TrainerView> toPage(List<TrainerView> trainers, Integer pageSize) {
+        if (isNull(pageSize)) {
+            return new CursorPage<>(trainers, null);
+        }
+
+        return CursorPage.of(trainers, pageSize, trainer -> TrainerCursor.of(trainer).encode());
+    }
 }
@@ -0,0 +1,57 @@
+package com.gym.crm.app.service.impl;
+
+import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.repository.TrainingRepository;
+import com.gym.crm.app.repository.projection.TrainingView;
+import com.gym.crm.app.service.TrainingExportService;
+import com.gym.crm.app.service.export.TrainingExportFormat;
+import com.gym.crm.app.service.export.TrainingExportWriter;
+import com.gym.crm.app.service.search.TrainerTrainingSearchFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+@Service
+@RequiredArgsConstructor
+public class TrainingExportServiceImpl implements TrainingExportService {
+
+    private static final Sort EXPORT_ORDER = Sort.by(Sort.Order.asc("trainingDate"), Sort.Order.asc("id"));
+
+    private final TrainingRepository repository;
+
+    @Value("${training.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${training.export.timeout-seconds:600}")
+    public void export(String trainerUsername, TrainingExportFormat format, OutputStream out) throws IOException {
+        try (Stream<TrainingView> trainings = repository.streamViews(specificationFor(trainerUsername), EXPORT_ORDER, fetchSize);
+             TrainingExportWriter writer = format.open(out)) {
+            Iterator<TrainingView> iterator = trainings.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+        }
+    }
+
+    private static Specification<Training> specificationFor(String trainerUsername) {
+        if (isBlank(trainerUsername)) {
+            return Specification.where(null);
+        }
+
+        return TrainerTrainingSearchFilter.builder()
+                .username(trainerUsername)
+                .build()
+                .toSpecification();
+    }
+}
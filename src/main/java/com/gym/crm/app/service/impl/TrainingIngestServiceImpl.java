@@ -0,0 +1,126 @@
+package com.gym.crm.app.service.impl;
+
+import com.gym.crm.app.entity.Trainee;
+import com.gym.crm.app.entity.Trainer;
+import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.entity.TrainingType;
+import com.gym.crm.app.logging.MessageHelper;
+import com.gym.crm.app.repository.TraineeRepository;
+import com.gym.crm.app.repository.TrainerRepository;
+import com.gym.crm.app.repository.TrainingRepository;
+import com.gym.crm.app.repository.projection.TraineeIdView;
+import com.gym.crm.app.repository.projection.TrainerIdView;
+import com.gym.crm.app.service.TrainingIngestService;
+import com.gym.crm.app.service.ingest.TrainingIngestError;
+import com.gym.crm.app.service.ingest.TrainingIngestResult;
+import com.gym.crm.app.service.ingest.TrainingIngestRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.gym.crm.app.util.Constants.ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND;
+import static com.gym.crm.app.util.Constants.ERROR_TRAINER_WITHOUT_SPECIALIZATION;
+import static com.gym.crm.app.util.Constants.ERROR_TRAINER_WITH_USERNAME_NOT_FOUND;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Service
+@RequiredArgsConstructor
+public class TrainingIngestServiceImpl implements TrainingIngestService {
+
+    private final MessageHelper messageHelper;
+    private final TraineeRepository traineeRepository;
+    private final TrainerRepository trainerRepository;
+    private final TrainingRepository trainingRepository;
+
+    @Value("${training.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public TrainingIngestResult ingest(List<TrainingIngestRow> rows) {
+        if (rows.isEmpty()) {
+            return new TrainingIngestResult(0, List.of());
+        }
+
+        Map<String, Long> traineeIds = traineeRepository.findIdViewsByUsernames(usernames(rows, TrainingIngestRow::traineeUsername)).stream()
+                .collect(Collectors.toMap(TraineeIdView::username, TraineeIdView::id));
+        Map<String, TrainerIdView> trainers = trainerRepository.findIdViewsByUsernames(usernames(rows, TrainingIngestRow::trainerUsername)).stream()
+                .collect(Collectors.toMap(TrainerIdView::username, Function.identity()));
+
+        List<TrainingIngestError> errors = new ArrayList<>();
+        List<Training> trainings = new ArrayList<>();
+        Map<Long, Set<Long>> trainerIdsByTraineeId = new HashMap<>();
+
+        for (TrainingIngestRow row : rows) {
+            Long traineeId = traineeIds.get(row.traineeUsername());
+            TrainerIdView trainer = trainers.get(row.trainerUsername());
+
+            String error = resolveError(row, traineeId, trainer);
+            if (nonNull(error)) {
+                errors.add(new TrainingIngestError(row.index(), error));
+                continue;
+            }
+
+            trainings.add(toTraining(row, traineeId, trainer));
+            trainerIdsByTraineeId.computeIfAbsent(traineeId, id -> new HashSet<>()).add(trainer.id());
+        }
+
+        if (!trainings.isEmpty()) {
+            trainingRepository.insertAll(withIds(trainings), batchSize);
+            traineeRepository.assignTrainersIfAbsent(trainerIdsByTraineeId, batchSize);
+        }
+
+        return new TrainingIngestResult(trainings.size(), errors);
+    }
+
+    private String resolveError(TrainingIngestRow row, Long traineeId, TrainerIdView trainer) {
+        if (isNull(traineeId)) {
+            return messageHelper.getMessage(ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND, row.traineeUsername());
+        }
+        if (isNull(trainer)) {
+            return messageHelper.getMessage(ERROR_TRAINER_WITH_USERNAME_NOT_FOUND, row.trainerUsername());
+        }
+        if (isNull(trainer.specializationId())) {
+            return messageHelper.getMessage(ERROR_TRAINER_WITHOUT_SPECIALIZATION, row.trainerUsername());
+        }
+
+        return null;
+    }
+
+    private List<Training> withIds(List<Training> trainings) {
+        Iterator<Long> ids = trainingRepository.allocateIds(trainings.size()).iterator();
+
+        return trainings.stream()
+                .map(training -> training.toBuilder().id(ids.next()).build())
+                .toList();
+    }
+
+    private static Training toTraining(TrainingIngestRow row, Long traineeId, TrainerIdView trainer) {
+        return Training.builder()
+                .trainee(Trainee.builder().id(traineeId).build())
+                .trainer(Trainer.builder().id(trainer.id()).build())
+                .trainingType(TrainingType.builder().id(trainer.specializationId()).build())
+                .trainingName(row.trainingName())
+                .trainingDate(row.trainingDate())
+                .trainingDuration(row.trainingDuration())
+                .build();
+    }
+
+    private static Set<String> usernames(List<TrainingIngestRow> rows, Function<TrainingIngestRow, String> username) {
+        return rows.stream()
+                .map(username)
+                .collect(Collectors.toSet());
+    }
+}
@@ -4,10 +4,16 @@ import com.gym.crm.app.entity.Training;
 import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.logging.MessageHelper;
 import com.gym.crm.app.repository.TrainingRepository;
+import com.gym.crm.app.repository.projection.TrainingView;
 import com.gym.crm.app.service.TrainingService;
 import com.gym.crm.app.service.common.EntityValidator;
+import com.gym.crm.app.service.search.CursorPage;
+import com.gym.crm.app.service.search.TrainingCursor;
 import com.gym.crm.app.service.search.TrainingSearchFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,15 +22,21 @@ import java.util.List;
 
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINING_WITH_ID_NOT_FOUND;
 import static com.gym.crm.app.util.Constants.ERROR_TRAINING_WITH_ID_NOT_FOUND;
+import static java.util.Objects.isNull;
 
 @Service
 @RequiredArgsConstructor
 public class TrainingServiceImpl implements TrainingService {
 
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("trainingDate"), Sort.Order.desc("id"));
+
     private final MessageHelper messageHelper;
     private final TrainingRepository repository;
     private final EntityValidator validator;
 
+    @Value("${training.search.max-page-size:200}")
+    private int maxPageSize;
+
     @Override
     @Transactional(readOnly = true)
     public Training findById(Long id) {
@@ -35,10 +47,17 @@ public class TrainingServiceImpl implements TrainingService {
     }
 
     @Override
-    public List<Training> findAll(TrainingSearchFilter filter) {
+    public CursorPage<TrainingView> findAll(TrainingSearchFilter filter) {
         Specification<Training> specification = filter.toSpecification();
+        Integer pageSize = resolvePageSize(filter.getLimit());
+
+        if (isNull(pageSize)) {
+            return new CursorPage<>(repository.findViews(specification, KEYSET_ORDER, Limit.unlimited()), null);
+        }
 
-        return repository.findAll(specification);
+        List<TrainingView> trainings = repository.findViews(specification, KEYSET_ORDER, Limit.of(pageSize + 1));
+
+        return CursorPage.of(trainings, pageSize, training -> TrainingCursor.of(training).encode());
     }
 
     @Override
@@ -48,4 +67,8 @@ public class TrainingServiceImpl implements TrainingService {
 
         repository.save(training);
     }
+
+    private Integer resolvePageSize(Integer limit) {
+        return isNull(limit) ? null : Math.min(Math.max(limit, 1), maxPageSize);
+    }
 }
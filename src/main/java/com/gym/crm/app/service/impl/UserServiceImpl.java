@@ -12,6 +12,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 import static com.gym.crm.app.rest.exception.ErrorCode.USER_WITH_ID_NOT_FOUND;
 import static com.gym.crm.app.rest.exception.ErrorCode.USER_WITH_USERNAME_NOT_FOUND;
 import static com.gym.crm.app.util.Constants.ERROR_USER_WITH_ID_NOT_FOUND;
@@ -47,6 +49,14 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new EntityValidationException(messageHelper.getMessage(ERROR_USER_WITH_USERNAME_NOT_FOUND, username), USER_WITH_USERNAME_NOT_FOUND.getCode()));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Boolean> findActiveStateByUsername(String username) {
+        entityValidator.checkEntity(username);
+
+        return repository.findIsActiveByUsername(username);
+    }
+
     @Override
     @Transactional
     public User save(User user) {
@@ -0,0 +1,4 @@
+package com.gym.crm.app.service.ingest;
+
+public record TrainingIngestError(int index, String message) {
+}
@@ -0,0 +1,10 @@
+package com.gym.crm.app.service.ingest;
+
+import java.util.List;
+
+public record TrainingIngestResult(int inserted, List<TrainingIngestError> errors) {
+
+    public int rejected() {
+        return errors.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.gym.crm.app.service.ingest;
+
+import java.time.LocalDate;
+
+public record TrainingIngestRow(int index,
+                                String traineeUsername,
+                                String trainerUsername,
+                                String trainingName,
+                                LocalDate trainingDate,
+                                Integer trainingDuration) {
+}
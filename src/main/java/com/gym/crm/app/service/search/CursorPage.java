@@ -0,0 +1,25 @@
+package com.gym.crm.app.service.search;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorExtractor) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<T> content = rows.subList(0, limit);
+
+        return new CursorPage<>(content, cursorExtractor.apply(content.get(limit - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.gym.crm.app.service.search;
+
+import com.gym.crm.app.exception.EntityValidationException;
+import com.gym.crm.app.repository.projection.TrainerView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.gym.crm.app.rest.exception.ErrorCode.INVALID_TRAINER_CURSOR;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+public record TrainerCursor(String username) {
+
+    private static final String INVALID_CURSOR = "Invalid trainer page cursor";
+
+    public static TrainerCursor of(TrainerView trainer) {
+        return new TrainerCursor(trainer.username());
+    }
+
+    public static TrainerCursor decode(String cursor) {
+        try {
+            String username = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (isBlank(username)) {
+                throw new EntityValidationException(INVALID_CURSOR, INVALID_TRAINER_CURSOR.getCode());
+            }
+
+            return new TrainerCursor(username);
+        } catch (IllegalArgumentException e) {
+            throw new EntityValidationException(INVALID_CURSOR, INVALID_TRAINER_CURSOR.getCode());
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(username.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,41 @@
+package com.gym.crm.app.service.search;
+
+import com.gym.crm.app.exception.EntityValidationException;
+import com.gym.crm.app.repository.projection.TrainingView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.gym.crm.app.rest.exception.ErrorCode.INVALID_TRAINING_CURSOR;
+
+public record TrainingCursor(LocalDate trainingDate, Long id) {
+
+    private static final String INVALID_CURSOR = "Invalid training page cursor";
+    private static final String SEPARATOR = ":";
+
+    public static TrainingCursor of(TrainingView training) {
+        return new TrainingCursor(training.trainingDate(), training.id());
+    }
+
+    public static TrainingCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw new EntityValidationException(INVALID_CURSOR, INVALID_TRAINING_CURSOR.getCode());
+            }
+
+            return new TrainingCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new EntityValidationException(INVALID_CURSOR, INVALID_TRAINING_CURSOR.getCode());
+        }
+    }
+
+    public String encode() {
+        String raw = trainingDate + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
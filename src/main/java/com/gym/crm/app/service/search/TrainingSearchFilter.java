@@ -15,6 +15,8 @@ public abstract class TrainingSearchFilter {
     private LocalDate from;
     private LocalDate to;
     private String profileName;
+    private TrainingCursor cursor;
+    private Integer limit;
 
     public abstract Specification<Training> toSpecification();
 }
@@ -13,7 +13,8 @@ public class TraineeTrainingSpecification extends TrainingSpecification {
         return Specification.where(traineeUsernamePredicate(searchFilter.getUsername()))
                 .and(dateRangePredicate(searchFilter.getFrom(), searchFilter.getTo()))
                 .and(trainerNamePredicate(searchFilter.getProfileName()))
-                .and(trainingTypePredicate(searchFilter.getTrainingType()));
+                .and(trainingTypePredicate(searchFilter.getTrainingType()))
+                .and(keysetPredicate(searchFilter.getCursor()));
     }
 
     private static Specification<Training> traineeUsernamePredicate(String username) {
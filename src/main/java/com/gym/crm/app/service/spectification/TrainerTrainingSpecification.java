@@ -12,7 +12,8 @@ public class TrainerTrainingSpecification extends TrainingSpecification {
     public static Specification<Training> findByCriteria(TrainerTrainingSearchFilter searchFilter) {
         return Specification.where(trainerUsernamePredicate(searchFilter.getUsername()))
                 .and(dateRangePredicate(searchFilter.getFrom(), searchFilter.getTo()))
-                .and(traineeNamePredicate(searchFilter.getProfileName()));
+                .and(traineeNamePredicate(searchFilter.getProfileName()))
+                .and(keysetPredicate(searchFilter.getCursor()));
     }
 
     private static Specification<Training> trainerUsernamePredicate(String username) {
@@ -1,12 +1,14 @@
 package com.gym.crm.app.service.spectification;
 
 import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.service.search.TrainingCursor;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 public class TrainingSpecification {
@@ -25,4 +27,18 @@ public class TrainingSpecification {
             return predicate;
         };
     }
+
+    protected static Specification<Training> keysetPredicate(@Nullable TrainingCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (isNull(cursor)) {
+                return criteriaBuilder.conjunction();
+            }
+
+            return criteriaBuilder.and(
+                    criteriaBuilder.lessThanOrEqualTo(root.get("trainingDate"), cursor.trainingDate()),
+                    criteriaBuilder.or(
+                            criteriaBuilder.lessThan(root.get("trainingDate"), cursor.trainingDate()),
+                            criteriaBuilder.lessThan(root.get("id"), cursor.id())));
+        };
+    }
 }
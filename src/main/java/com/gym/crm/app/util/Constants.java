@@ -42,6 +42,8 @@ public class Constants {
     public static final String ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND = "ERROR.TRAINEE.WITH.USERNAME.NOT.FOUND";
 
     public static final String ERROR_TRAINING_TYPE_WITH_NAME_NOT_FOUND = "ERROR.TRAINING.TYPE.WITH.NAME.NOT.FOUND";
+    public static final String ERROR_TRAINER_WITHOUT_SPECIALIZATION = "ERROR.TRAINER.WITHOUT.SPECIALIZATION";
+    public static final String ERROR_USERNAME_NOT_ALLOCATED = "ERROR.USERNAME.NOT.ALLOCATED";
 
     public static final String WARN_TRAINEE_WITH_ID_NOT_FOUND = "WARN.TRAINEE.WITH.ID.NOT.FOUND";
     public static final String WARN_USER_WITH_ID_NOT_FOUND = "WARN.USER.WITH.ID.NOT.FOUND";
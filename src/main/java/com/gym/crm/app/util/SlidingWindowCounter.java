@@ -0,0 +1,64 @@
+package com.gym.crm.app.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final long bucketMillis;
+    private final AtomicLongArray buckets;
+
+    public SlidingWindowCounter(Duration window, int bucketCount) {
+        this.bucketMillis = Math.max(1, window.toMillis() / bucketCount);
+        this.buckets = new AtomicLongArray(bucketCount);
+    }
+
+    public long incrementAndSum(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int index = (int) (epoch % buckets.length());
+
+        buckets.getAndUpdate(index, bucket -> increment(bucket, epoch));
+
+        return sum(nowMillis);
+    }
+
+    public long sum(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        long total = 0;
+
+        for (int i = 0; i < buckets.length(); i++) {
+            long bucket = buckets.get(i);
+
+            if (epoch - epochOf(bucket) < buckets.length()) {
+                total += countOf(bucket);
+            }
+        }
+
+        return total;
+    }
+
+    private static long increment(long bucket, long epoch) {
+        if (epochOf(bucket) != epoch) {
+            return pack(epoch, 1);
+        }
+
+        long count = countOf(bucket);
+
+        return count == COUNT_MASK ? bucket : pack(epoch, count + 1);
+    }
+
+    private static long pack(long epoch, long count) {
+        return epoch << COUNT_BITS | count;
+    }
+
+    private static long epochOf(long bucket) {
+        return bucket >>> COUNT_BITS;
+    }
+
+    private static long countOf(long bucket) {
+        return bucket & COUNT_MASK;
+    }
+}
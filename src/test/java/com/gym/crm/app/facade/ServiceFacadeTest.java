@@ -7,7 +7,9 @@ import com.gym.crm.app.entity.TrainingType;
 import com.gym.crm.app.entity.User;
 import com.gym.crm.app.exception.AuthenticationException;
 import com.gym.crm.app.exception.EntityPersistException;
+import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.facade.mapper.AddTrainingMapper;
+import com.gym.crm.app.facade.mapper.BulkTrainingMapper;
 import com.gym.crm.app.facade.mapper.CreateTraineeProfileMapper;
 import com.gym.crm.app.facade.mapper.CreateTrainerProfileMapper;
 import com.gym.crm.app.facade.mapper.GetTraineeProfileMapper;
@@ -18,6 +20,8 @@ import com.gym.crm.app.facade.mapper.TrainerProfileMapper;
 import com.gym.crm.app.facade.mapper.TrainingTypeMapper;
 import com.gym.crm.app.facade.mapper.UpdateTraineeProfileMapper;
 import com.gym.crm.app.facade.mapper.UpdateTrainerProfileMapper;
+import com.gym.crm.app.facade.validator.CreateTrainingValidator;
+import com.gym.crm.app.repository.projection.TrainerView;
 import com.gym.crm.app.rest.model.ActivateDeactivateProfileRequest;
 import com.gym.crm.app.rest.model.AddTrainingRequest;
 import com.gym.crm.app.rest.model.ChangePasswordRequest;
@@ -28,13 +32,24 @@ import com.gym.crm.app.rest.model.UpdateTraineeProfileRequest;
 import com.gym.crm.app.rest.model.UpdateTrainerProfileRequest;
 import com.gym.crm.app.rest.model.UserCredentials;
 import com.gym.crm.app.security.AuthService;
+import com.gym.crm.app.security.UserDetailsCache;
+import com.gym.crm.app.security.UserStateCache;
 import com.gym.crm.app.service.TraineeService;
 import com.gym.crm.app.service.TrainerService;
+import com.gym.crm.app.service.TrainingExportService;
+import com.gym.crm.app.service.TrainingIngestService;
 import com.gym.crm.app.service.TrainingService;
 import com.gym.crm.app.service.TrainingTypeService;
 import com.gym.crm.app.service.UserService;
 import com.gym.crm.app.service.common.BindingResultsService;
+import com.gym.crm.app.service.common.TrainerDirectory;
 import com.gym.crm.app.service.common.UserProfileService;
+import com.gym.crm.app.service.export.TrainingExportFormat;
+import com.gym.crm.app.service.ingest.TrainingIngestError;
+import com.gym.crm.app.service.ingest.TrainingIngestResult;
+import com.gym.crm.app.service.ingest.TrainingIngestRow;
+import com.gym.crm.app.service.search.CursorPage;
+import com.gym.crm.app.service.search.TrainerCursor;
 import com.gym.crm.app.service.search.TraineeTrainingSearchFilter;
 import com.gym.crm.app.service.search.TrainerTrainingSearchFilter;
 import com.gym.crm.app.utils.EntityTestData;
@@ -45,13 +60,18 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Function;
 
 import static com.gym.crm.app.rest.exception.ErrorCode.PASSWORD_CHANGE_ERROR;
 import static com.gym.crm.app.rest.exception.ErrorCode.TRAINEE_CREATE_ERROR;
@@ -62,12 +82,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceFacadeTest {
@@ -81,6 +101,9 @@ class ServiceFacadeTest {
     @Mock
     private TrainingService trainingService;
 
+    @Mock
+    private TrainingExportService trainingExportService;
+
     @Mock
     private UserService userService;
 
@@ -90,6 +113,24 @@ class ServiceFacadeTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private UserStateCache userStateCache;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private TrainerDirectory trainerDirectory;
+
+    @Mock
+    private TrainingIngestService trainingIngestService;
+
+    @Mock
+    private BulkTrainingMapper bulkTrainingMapper;
+
+    @Spy
+    private CreateTrainingValidator createTrainingValidator = new CreateTrainingValidator();
+
     @Mock
     private BindingResultsService bindingResultsService;
 
@@ -135,6 +176,9 @@ class ServiceFacadeTest {
     @Captor
     private ArgumentCaptor<User> userCaptor;
 
+    @Captor
+    private ArgumentCaptor<TrainingIngestResult> ingestResultCaptor;
+
     @Test
     @DisplayName("Test create trainer profile by valid data functionality")
     void givenValidCreateTrainerDto_whenCreateTrainerProfile_thenCreateTrainerProfile() {
@@ -156,11 +200,14 @@ class ServiceFacadeTest {
         given(userService.prepareUserForSave(any(User.class), eq(password)))
                 .willReturn(user);
 
+        given(userProfileService.saveWithUniqueUsername(any(User.class), any()))
+                .willAnswer(invocation -> invocation.<Function<User, Object>>getArgument(1).apply(invocation.getArgument(0)));
         // when
         serviceFacade.createTrainerProfile(request, bindingResult);
 
         // then
         verify(trainerService).save(any(Trainer.class));
+        verify(trainerDirectory).invalidate();
         verify(createTrainerProfileMapper).mapToUserCredentials(any(Trainer.class));
     }
 
@@ -198,6 +245,8 @@ class ServiceFacadeTest {
         given(userService.prepareUserForSave(any(User.class), eq(password)))
                 .willReturn(user);
 
+        given(userProfileService.saveWithUniqueUsername(any(User.class), any()))
+                .willAnswer(invocation -> invocation.<Function<User, Object>>getArgument(1).apply(invocation.getArgument(0)));
         // when
         serviceFacade.createTraineeProfile(request, bindingResult);
 
@@ -287,6 +336,8 @@ class ServiceFacadeTest {
         User capturedUser = userCaptor.getValue();
         assertThat(capturedUser.getUsername()).isEqualTo(user.getUsername());
         assertThat(capturedUser.getPassword()).isEqualTo(hashedPassword);
+        verify(userDetailsCache).invalidate(user.getUsername());
+        verify(userStateCache).invalidate(user.getUsername());
     }
 
     @Test
@@ -306,11 +357,14 @@ class ServiceFacadeTest {
         given(updateTrainerProfileMapper.updateTraineeProfileFromDto(request, trainer))
                 .willReturn(trainer);
 
+        given(userProfileService.saveWithUniqueUsername(any(User.class), any()))
+                .willAnswer(invocation -> invocation.<Function<User, Object>>getArgument(1).apply(invocation.getArgument(0)));
         // when
         serviceFacade.updateTrainerProfile(username, request, bindingResult, user);
 
         // then
         verify(trainerService).update(any(Trainer.class));
+        verify(trainerDirectory).invalidate();
         verify(updateTrainerProfileMapper).mapToUpdateTrainerProfileResponse(any());
     }
 
@@ -348,6 +402,8 @@ class ServiceFacadeTest {
         given(traineeService.findByUsername(any()))
                 .willReturn(trainee);
 
+        given(userProfileService.saveWithUniqueUsername(any(User.class), any()))
+                .willAnswer(invocation -> invocation.<Function<User, Object>>getArgument(1).apply(invocation.getArgument(0)));
         // when
         serviceFacade.updateTraineeProfile(username, request, bindingResult, user);
 
@@ -409,6 +465,7 @@ class ServiceFacadeTest {
 
         // then
         verify(userService).update(any(User.class));
+        verify(trainerDirectory).invalidate();
     }
 
     @Test
@@ -475,8 +532,11 @@ class ServiceFacadeTest {
         LocalDate to = LocalDate.parse("2020-01-02");
         String trainerName = "Emily";
 
+        given(traineeService.findTrainingByCriteria(any(TraineeTrainingSearchFilter.class)))
+                .willReturn(new CursorPage<>(List.of(), null));
+
         // when
-        serviceFacade.getTraineeTrainingsByCriteria(username, from, to, trainerName, null);
+        serviceFacade.getTraineeTrainingsByCriteria(username, from, to, trainerName, null, null, null);
 
         // then
         verify(traineeService).findTrainingByCriteria(any(TraineeTrainingSearchFilter.class));
@@ -492,13 +552,61 @@ class ServiceFacadeTest {
         LocalDate to = LocalDate.parse("2020-01-02");
         String traineeName = "John";
 
+        given(trainerService.findTrainingByCriteria(any(TrainerTrainingSearchFilter.class)))
+                .willReturn(new CursorPage<>(List.of(), null));
+
         // when
-        serviceFacade.getTrainerTrainingsByCriteria(username, from, to, traineeName);
+        serviceFacade.getTrainerTrainingsByCriteria(username, from, to, traineeName, null, null);
 
         // then
         verify(trainerService).findTrainingByCriteria(any(TrainerTrainingSearchFilter.class));
     }
 
+    @Test
+    @DisplayName("Test export trainings checks trainer before streaming functionality")
+    void givenTrainerUsername_whenExportTrainings_thenTrainerIsCheckedAndExportIsStreamed() throws IOException {
+        // given
+        String username = "David.Brown";
+        User sessionUser = User.builder().username(username).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        StreamingResponseBody body = serviceFacade.exportTrainings(username, TrainingExportFormat.CSV, sessionUser);
+        body.writeTo(out);
+
+        // then
+        verify(trainerService).findByUsername(username);
+        verify(trainingExportService).export(username, TrainingExportFormat.CSV, out);
+    }
+
+    @Test
+    @DisplayName("Test export trainings without trainer defaults to session user functionality")
+    void givenNoTrainerUsername_whenExportTrainings_thenSessionUserTrainingsAreStreamed() throws IOException {
+        // given
+        String username = "David.Brown";
+        User sessionUser = User.builder().username(username).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        StreamingResponseBody body = serviceFacade.exportTrainings(null, TrainingExportFormat.NDJSON, sessionUser);
+        body.writeTo(out);
+
+        // then
+        verify(trainerService).findByUsername(username);
+        verify(trainingExportService).export(username, TrainingExportFormat.NDJSON, out);
+    }
+
+    @Test
+    @DisplayName("Test export trainings of another trainer functionality")
+    void givenOtherTrainerUsername_whenExportTrainings_thenExceptionIsThrown() {
+        // given
+        User sessionUser = User.builder().username("David.Brown").build();
+
+        // when & then
+        assertThrows(AuthenticationException.class, () -> serviceFacade.exportTrainings("Alice.Smith", TrainingExportFormat.CSV, sessionUser));
+        verifyNoInteractions(trainerService, trainingExportService);
+    }
+
     @Test
     @DisplayName("Test add valid training functionality")
     void givenTrainingRequest_whenAddTraining_thenTrainingIsAdded() {
@@ -539,17 +647,64 @@ class ServiceFacadeTest {
         assertThrows(EntityPersistException.class, () -> serviceFacade.addTraining(request, bindingResult));
     }
 
+    @Test
+    @DisplayName("Test add trainings in bulk reports rejected rows in request order functionality")
+    void givenValidAndInvalidRows_whenAddTrainings_thenInvalidRowsAreReported() {
+        // given
+        ReflectionTestUtils.setField(serviceFacade, "maxIngestRows", 10);
+
+        AddTrainingRequest valid = EntityTestData.getValidTrainingRequest();
+        AddTrainingRequest invalid = EntityTestData.getInvalidTrainingRequest();
+        TrainingIngestRow row = new TrainingIngestRow(0, "John.Doe", "Emily.Davis", "Training name", LocalDate.parse("2021-02-01"), 2);
+        TrainingIngestError unknownTrainer = new TrainingIngestError(0, "Trainer with username Emily.Davis not found");
+
+        given(bulkTrainingMapper.mapToTrainingIngestRow(0, valid))
+                .willReturn(row);
+        given(trainingIngestService.ingest(List.of(row)))
+                .willReturn(new TrainingIngestResult(0, List.of(unknownTrainer)));
+
+        // when
+        serviceFacade.addTrainings(List.of(valid, invalid));
+
+        // then
+        verify(bulkTrainingMapper).mapToBulkTrainingResponse(ingestResultCaptor.capture());
+
+        TrainingIngestResult actual = ingestResultCaptor.getValue();
+        assertThat(actual.inserted()).isZero();
+        assertThat(actual.errors()).extracting(TrainingIngestError::index).containsExactly(0, 1);
+        assertThat(actual.errors().get(1).message()).contains("Trainee username is required");
+    }
+
+    @Test
+    @DisplayName("Test add too many trainings in bulk functionality")
+    void givenTooManyRows_whenAddTrainings_thenExceptionIsThrown() {
+        // given
+        ReflectionTestUtils.setField(serviceFacade, "maxIngestRows", 1);
+
+        List<AddTrainingRequest> requests = List.of(EntityTestData.getValidTrainingRequest(), EntityTestData.getValidTrainingRequest());
+
+        // when & then
+        assertThrows(EntityValidationException.class, () -> serviceFacade.addTrainings(requests));
+        verifyNoInteractions(trainingIngestService);
+    }
+
     @Test
     @DisplayName("Test get trainer not assigned by trainee username functionality")
     void givenUsername_whenGetTrainerNotAssigned_thenTrainersIsReturned() {
         // given
         String username = "John.Doe";
 
+        TrainerCursor cursor = new TrainerCursor("Anna.Smith");
+
+        given(trainerService.getTrainersNotAssignedByTraineeUsername(username, "Yoga", cursor, 10))
+                .willReturn(new CursorPage<>(List.of(), null));
+
         // when
-        serviceFacade.getTrainersNotAssignedByTraineeUsername(username);
+        serviceFacade.getTrainersNotAssignedByTraineeUsername(username, "Yoga", cursor.encode(), 10);
 
         // then
-        verify(trainerService).getTrainersNotAssignedByTraineeUsername(username);
+        verify(trainerService).getTrainersNotAssignedByTraineeUsername(username, "Yoga", cursor, 10);
+        verifyNoInteractions(traineeService);
     }
 
     @Test
@@ -558,20 +713,21 @@ class ServiceFacadeTest {
         // given
         String username = "John.Doe";
         User user = EntityTestData.getPersistedUserJohnDoe();
-        Trainee trainee = EntityTestData.getPersistedTraineeJohnDoe();
-        String trainerUsername = "David.Brown";
+        TrainerView emily = new TrainerView(1L, "Emily.Davis", "Emily", "Davis", "Fitness");
+        TrainerView david = new TrainerView(2L, "David.Brown", "David", "Brown", "Yoga");
 
         List<TrainerProfileOnlyUsername> trainers = EntityTestData.getValidListTrainerProfileOnlyUsernames();
 
-        given(traineeService.findByUsername(username))
-                .willReturn(trainee);
+        given(traineeService.updateTrainers(username, List.of("Emily.Davis", "David.Brown")))
+                .willReturn(List.of(emily, david));
 
         // when
         serviceFacade.updateTraineesTrainerList(username, trainers, user);
 
         // then
-        verify(trainerService, atLeastOnce()).findByUsername(trainerUsername);
-        verify(traineeService).update(trainee);
+        verify(trainerProfileMapper).mapToTrainerProfileWithUsername(emily);
+        verify(trainerProfileMapper).mapToTrainerProfileWithUsername(david);
+        verifyNoInteractions(trainerService);
     }
 
     @Test
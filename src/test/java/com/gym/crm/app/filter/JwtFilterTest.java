@@ -3,7 +3,11 @@ package com.gym.crm.app.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gym.crm.app.rest.exception.ErrorCode;
 import com.gym.crm.app.rest.model.ErrorResponse;
+import com.gym.crm.app.entity.User;
+import com.gym.crm.app.security.CustomUserDetailsService;
 import com.gym.crm.app.security.JwtService;
+import com.gym.crm.app.security.UserStateCache;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
@@ -19,11 +23,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.io.PrintWriter;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -36,11 +43,14 @@ class JwtFilterTest {
     private static final String USERNAME = "testUser";
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private CustomUserDetailsService userDetailsService;
 
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private UserStateCache userStateCache;
+
     @Mock
     private HttpServletRequest request;
 
@@ -66,18 +76,23 @@ class JwtFilterTest {
     void givenUsername_whenDoFilterInternal_thenSuccess() throws Exception {
         // given
         UserDetails userDetails = mock(UserDetails.class);
+        Claims claims = mock(Claims.class);
 
+        given(claims.getSubject())
+                .willReturn(USERNAME);
         given(request.getHeader("Authorization"))
                 .willReturn(AUTHORIZATION);
         given(jwtService.extractAccessToken(AUTHORIZATION))
                 .willReturn(TOKEN);
-        given(jwtService.extractUsername(TOKEN))
-                .willReturn(USERNAME);
+        given(jwtService.verify(TOKEN))
+                .willReturn(claims);
         given(jwtService.isPresentValidAccessToken(AUTHORIZATION))
                 .willReturn(true);
-        given(userDetailsService.loadUserByUsername(USERNAME))
+        given(userStateCache.findActiveState(USERNAME))
+                .willReturn(Optional.of(true));
+        given(userDetailsService.loadTokenUserByUsername(USERNAME))
                 .willReturn(userDetails);
-        given(jwtService.isValid(TOKEN, USERNAME))
+        given(jwtService.isValid(TOKEN, claims))
                 .willReturn(true);
         given(request.getRequestURI())
                 .willReturn("/url");
@@ -90,19 +105,136 @@ class JwtFilterTest {
         verify(response, never()).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
     }
 
+    @Test
+    @DisplayName("Test valid stateless token functionality")
+    void givenStatelessToken_whenDoFilterInternal_thenUserIsNotLoaded() throws Exception {
+        // given
+        User user = User.builder().username(USERNAME).isActive(true).roles(Set.of()).build();
+        Claims claims = mock(Claims.class);
+
+        given(claims.getSubject())
+                .willReturn(USERNAME);
+        given(request.getHeader("Authorization"))
+                .willReturn(AUTHORIZATION);
+        given(jwtService.extractAccessToken(AUTHORIZATION))
+                .willReturn(TOKEN);
+        given(jwtService.verify(TOKEN))
+                .willReturn(claims);
+        given(jwtService.isPresentValidAccessToken(AUTHORIZATION))
+                .willReturn(true);
+        given(jwtService.isStateless(claims))
+                .willReturn(true);
+        given(userStateCache.findActiveState(USERNAME))
+                .willReturn(Optional.of(true));
+        given(jwtService.extractUser(claims, true))
+                .willReturn(user);
+        given(jwtService.isValid(TOKEN, claims))
+                .willReturn(true);
+        given(request.getRequestURI())
+                .willReturn("/url");
+
+        // when
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(request, response);
+        verify(userDetailsService, never()).loadTokenUserByUsername(USERNAME);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("Test token of removed user functionality")
+    void givenTokenOfRemovedUser_whenDoFilterInternal_thenUnauthorized() throws Exception {
+        // given
+        Claims claims = mock(Claims.class);
+
+        given(claims.getSubject())
+                .willReturn(USERNAME);
+        given(request.getHeader("Authorization"))
+                .willReturn(AUTHORIZATION);
+        given(jwtService.extractAccessToken(AUTHORIZATION))
+                .willReturn(TOKEN);
+        given(jwtService.verify(TOKEN))
+                .willReturn(claims);
+        given(jwtService.isPresentValidAccessToken(AUTHORIZATION))
+                .willReturn(true);
+        given(userStateCache.findActiveState(USERNAME))
+                .willReturn(Optional.empty());
+        given(response.getWriter())
+                .willReturn(printWriter);
+        given(request.getRequestURI())
+                .willReturn("/url");
+
+        // when
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(response.getWriter()).write(messageCaptor.capture());
+        verify(filterChain, never()).doFilter(request, response);
+
+        ErrorResponse errorResponse = new ObjectMapper().readValue(messageCaptor.getValue(), ErrorResponse.class);
+        assertThat(ErrorCode.INVALID_ACCESS_TOKEN.getCode()).isEqualTo(errorResponse.getCode());
+    }
+
+    @Test
+    @DisplayName("Test token of deactivated user functionality")
+    void givenTokenOfDeactivatedUser_whenDoFilterInternal_thenUnauthorized() throws Exception {
+        // given
+        Claims claims = mock(Claims.class);
+
+        given(claims.getSubject())
+                .willReturn(USERNAME);
+        given(request.getHeader("Authorization"))
+                .willReturn(AUTHORIZATION);
+        given(jwtService.extractAccessToken(AUTHORIZATION))
+                .willReturn(TOKEN);
+        given(jwtService.verify(TOKEN))
+                .willReturn(claims);
+        given(jwtService.isPresentValidAccessToken(AUTHORIZATION))
+                .willReturn(true);
+        given(userStateCache.findActiveState(USERNAME))
+                .willReturn(Optional.of(false));
+        given(response.getWriter())
+                .willReturn(printWriter);
+        given(request.getRequestURI())
+                .willReturn("/url");
+
+        // when
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(response.getWriter()).write(messageCaptor.capture());
+        verify(filterChain, never()).doFilter(request, response);
+        verify(jwtService, never()).extractUser(any(), anyBoolean());
+        verify(userDetailsService, never()).loadTokenUserByUsername(USERNAME);
+
+        ErrorResponse errorResponse = new ObjectMapper().readValue(messageCaptor.getValue(), ErrorResponse.class);
+        assertThat(ErrorCode.INVALID_ACCESS_TOKEN.getCode()).isEqualTo(errorResponse.getCode());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
     @Test
     @DisplayName("Test invalid token functionality")
     void givenUsername_whenDoFilterInternal_thenExpiredToken() throws Exception {
         // given
         UserDetails userDetails = mock(UserDetails.class);
+        Claims claims = mock(Claims.class);
 
+        given(claims.getSubject())
+                .willReturn(USERNAME);
         given(request.getHeader("Authorization"))
                 .willReturn(AUTHORIZATION);
-        given(jwtService.extractUsername(TOKEN))
-                .willReturn(USERNAME);
-        given(userDetailsService.loadUserByUsername(USERNAME))
+        given(jwtService.verify(TOKEN))
+                .willReturn(claims);
+        given(userStateCache.findActiveState(USERNAME))
+                .willReturn(Optional.of(true));
+        given(userDetailsService.loadTokenUserByUsername(USERNAME))
                 .willReturn(userDetails);
-        given(jwtService.isValid(TOKEN, USERNAME))
+        given(jwtService.isValid(TOKEN, claims))
                 .willThrow(new SignatureException("invalid token", null));
         given(response.getWriter())
                 .willReturn(printWriter);
@@ -130,14 +262,19 @@ class JwtFilterTest {
     void givenUsername_whenDoFilterInternal_thenExpired() throws Exception {
         // given
         UserDetails userDetails = mock(UserDetails.class);
+        Claims claims = mock(Claims.class);
 
+        given(claims.getSubject())
+                .willReturn(USERNAME);
         given(request.getHeader("Authorization"))
                 .willReturn(AUTHORIZATION);
-        given(jwtService.extractUsername(TOKEN))
-                .willReturn(USERNAME);
-        given(userDetailsService.loadUserByUsername(USERNAME))
+        given(jwtService.verify(TOKEN))
+                .willReturn(claims);
+        given(userStateCache.findActiveState(USERNAME))
+                .willReturn(Optional.of(true));
+        given(userDetailsService.loadTokenUserByUsername(USERNAME))
                 .willReturn(userDetails);
-        given(jwtService.isValid(TOKEN, USERNAME))
+        given(jwtService.isValid(TOKEN, claims))
                 .willThrow(new ExpiredJwtException(null, null, "token expired"));
         given(response.getWriter())
                 .willReturn(printWriter);
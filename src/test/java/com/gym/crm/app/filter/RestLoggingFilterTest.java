@@ -1,8 +1,11 @@
 package com.gym.crm.app.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.crm.app.logging.BodyLoggingPolicy;
+import com.gym.crm.app.logging.JsonLogRedactor;
 import com.gym.crm.app.logging.MessageHelper;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,10 +13,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.slf4j.MDC;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
 
 import static com.gym.crm.app.util.Constants.INFO_REST_LOGGING_FILTER_REQUEST;
 import static com.gym.crm.app.util.Constants.INFO_REST_LOGGING_FILTER_RESPONSE;
@@ -23,12 +30,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.verify;
 
 class RestLoggingFilterTest {
 
-    @Mock
-    private ObjectMapper objectMapper;
+    @Spy
+    private JsonLogRedactor jsonLogRedactor = new JsonLogRedactor(new ObjectMapper());
+
+    @Spy
+    private BodyLoggingPolicy bodyLoggingPolicy = new BodyLoggingPolicy();
 
     @Mock
     private MessageHelper messageHelper;
@@ -42,6 +53,7 @@ class RestLoggingFilterTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(jsonLogRedactor, "maxBodyLength", 2048);
     }
 
     @Test
@@ -62,11 +74,6 @@ class RestLoggingFilterTest {
         request.setRequestURI(uri);
         request.setContent(body.getBytes());
 
-        given(objectMapper.readValue(any(byte[].class), eq(Object.class)))
-                .willReturn(new Object());
-        given(objectMapper.writeValueAsString(any()))
-                .willReturn(body);
-
         given(messageHelper.getMessage(eq(INFO_REST_LOGGING_FILTER_REQUEST), anyString(), anyString(), anyString(), anyString()))
                 .willReturn("Request log message");
         given(messageHelper.getMessage(eq(INFO_REST_LOGGING_FILTER_RESPONSE), anyString(), anyString(), anyString()))
@@ -77,7 +84,7 @@ class RestLoggingFilterTest {
 
         // then
         ArgumentCaptor<CustomContentCachingRequestWrapper> requestCaptor = forClass(CustomContentCachingRequestWrapper.class);
-        ArgumentCaptor<ContentCachingResponseWrapper> responseCaptor = forClass(ContentCachingResponseWrapper.class);
+        ArgumentCaptor<TeeResponseWrapper> responseCaptor = forClass(TeeResponseWrapper.class);
 
         verify(filterChain).doFilter(requestCaptor.capture(), responseCaptor.capture());
         assertThat(requestCaptor.getValue()).isNotNull();
@@ -86,4 +93,130 @@ class RestLoggingFilterTest {
         verify(messageHelper).getMessage(eq(INFO_REST_LOGGING_FILTER_REQUEST), eq(method), eq(uri), eq(hiddenBody), eq(transactionId));
         verify(messageHelper).getMessage(eq(INFO_REST_LOGGING_FILTER_RESPONSE), eq(200), eq(""), eq(transactionId));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test filter streams response body while capturing it")
+    void givenResponseBody_whenDoFilterInternal_thenBodyIsWrittenAndLogged() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String responseBody = "{\"firstName\":\"John\",\"password\":\"pass\"}";
+        MDC.put("transactionId", "1");
+
+        bodyLoggingPolicy.setMaxCapturedBytes(20);
+
+        willAnswer(invocation -> {
+            HttpServletResponse wrapper = invocation.getArgument(1);
+            wrapper.setContentType("application/json");
+            wrapper.getWriter().write(responseBody);
+            return null;
+        }).given(filterChain).doFilter(any(), any());
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo(responseBody);
+        verify(messageHelper).getMessage(eq(INFO_REST_LOGGING_FILTER_RESPONSE), eq(200), eq("{\"firstName\":\"John\"...[truncated]"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("Test filter captures single byte writes up to the limit")
+    void givenSingleByteWrites_whenDoFilterInternal_thenBodyIsWrittenAndTruncated() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String responseBody = "{\"firstName\":\"John\",\"password\":\"pass\"}";
+        MDC.put("transactionId", "1");
+
+        bodyLoggingPolicy.setMaxCapturedBytes(20);
+
+        willAnswer(invocation -> {
+            HttpServletResponse wrapper = invocation.getArgument(1);
+            wrapper.setContentType("application/json");
+            for (byte b : responseBody.getBytes()) {
+                wrapper.getOutputStream().write(b);
+            }
+            return null;
+        }).given(filterChain).doFilter(any(), any());
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo(responseBody);
+        verify(messageHelper).getMessage(eq(INFO_REST_LOGGING_FILTER_RESPONSE), eq(200), eq("{\"firstName\":\"John\"...[truncated]"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("Test filter flushes writer body of not capturable response")
+    void givenNotCapturableWriterBody_whenDoFilterInternal_thenBodyReachesClient() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String responseBody = "id,name\n1,John";
+        MDC.put("transactionId", "1");
+
+        bodyLoggingPolicy.setExcludedContentTypes(List.of("text/csv"));
+
+        willAnswer(invocation -> {
+            HttpServletResponse wrapper = invocation.getArgument(1);
+            wrapper.setContentType("text/csv");
+            wrapper.getWriter().write(responseBody);
+            return null;
+        }).given(filterChain).doFilter(any(), any());
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo(responseBody);
+        verify(messageHelper).getMessage(eq(INFO_REST_LOGGING_FILTER_RESPONSE), eq(200), eq("[not captured]"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("Test filter drops captured body when response buffer is reset")
+    void givenResetBuffer_whenDoFilterInternal_thenOnlyBodyAfterResetIsLogged() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String responseBody = "{\"firstName\":\"John\"}";
+        MDC.put("transactionId", "1");
+
+        willAnswer(invocation -> {
+            HttpServletResponse wrapper = invocation.getArgument(1);
+            wrapper.setContentType("application/json");
+            wrapper.getWriter().write("{\"partial\":");
+            wrapper.resetBuffer();
+            wrapper.getWriter().write(responseBody);
+            return null;
+        }).given(filterChain).doFilter(any(), any());
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo(responseBody);
+        verify(messageHelper).getMessage(eq(INFO_REST_LOGGING_FILTER_RESPONSE), eq(200), eq(responseBody), eq("1"));
+    }
+
+    @Test
+    @DisplayName("Test filter skips bodies of not sampled requests")
+    void givenNotSampledRequest_whenDoFilterInternal_thenBodiesAreNotCaptured() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setContent("{\"firstName\":\"John\"}".getBytes());
+        MDC.put("transactionId", "1");
+
+        bodyLoggingPolicy.setSampleRates(Map.of("/api", 0.0));
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(any(CustomContentCachingRequestWrapper.class), eq(response));
+        verify(messageHelper).getMessage(eq(INFO_REST_LOGGING_FILTER_REQUEST), eq("POST"), eq("/api/test"), eq("[not captured]"), eq("1"));
+        verify(messageHelper).getMessage(eq(INFO_REST_LOGGING_FILTER_RESPONSE), eq(200), eq("[not captured]"), eq("1"));
+    }
+}
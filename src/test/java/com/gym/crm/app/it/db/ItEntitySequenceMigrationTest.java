@@ -0,0 +1,125 @@
+package com.gym.crm.app.it.db;
+
+import com.gym.crm.app.it.AbstractItTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@Transactional
+@Rollback
+class ItEntitySequenceMigrationTest extends AbstractItTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Test training id is served by training_seq after migration")
+    void givenSeededTrainings_whenMigrated_thenTrainingSeqIsAheadOfExistingIds() {
+        // given
+        long maxId = maxId("training");
+
+        // when
+        long nextId = nextId("training_seq");
+
+        // then
+        assertThat(maxId).isPositive();
+        assertThat(nextId).isGreaterThan(maxId);
+        assertIdServedBy("training", "training_seq");
+    }
+
+    @Test
+    @DisplayName("Test user id is served by user_seq after migration")
+    void givenSeededUsers_whenMigrated_thenUserSeqIsAheadOfExistingIds() {
+        // given
+        long maxId = maxId("user");
+
+        // when
+        long nextId = nextId("user_seq");
+
+        // then
+        assertThat(maxId).isPositive();
+        assertThat(nextId).isGreaterThan(maxId);
+        assertIdServedBy("user", "user_seq");
+    }
+
+    @Test
+    @DisplayName("Test trainee id is served by trainee_seq after migration")
+    void givenSeededTrainees_whenMigrated_thenTraineeSeqIsAheadOfExistingIds() {
+        // given
+        long maxId = maxId("trainee");
+
+        // when
+        long nextId = nextId("trainee_seq");
+
+        // then
+        assertThat(maxId).isPositive();
+        assertThat(nextId).isGreaterThan(maxId);
+        assertIdServedBy("trainee", "trainee_seq");
+    }
+
+    @Test
+    @DisplayName("Test trainer id is served by trainer_seq after migration")
+    void givenSeededTrainers_whenMigrated_thenTrainerSeqIsAheadOfExistingIds() {
+        // given
+        long maxId = maxId("trainer");
+
+        // when
+        long nextId = nextId("trainer_seq");
+
+        // then
+        assertThat(maxId).isPositive();
+        assertThat(nextId).isGreaterThan(maxId);
+        assertIdServedBy("trainer", "trainer_seq");
+    }
+
+    @Test
+    @DisplayName("Test refresh token id is served by refresh_token_seq after migration")
+    void givenRefreshTokenTable_whenMigrated_thenRefreshTokenSeqServesIds() {
+        // when
+        long nextId = nextId("refresh_token_seq");
+
+        // then
+        assertThat(nextId).isGreaterThan(maxId("refresh_token"));
+        assertIdServedBy("refresh_token", "refresh_token_seq");
+    }
+
+    @Test
+    @DisplayName("Test black list id is served by jwt_black_list_seq after migration")
+    void givenJwtBlackListTable_whenMigrated_thenJwtBlackListSeqServesIds() {
+        // when
+        long nextId = nextId("jwt_black_list_seq");
+
+        // then
+        assertThat(nextId).isGreaterThan(maxId("jwt_black_list"));
+        assertIdServedBy("jwt_black_list", "jwt_black_list_seq");
+    }
+
+    private long maxId(String table) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM public.\"" + table + "\"", Long.class);
+    }
+
+    private long nextId(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT nextval('public." + sequence + "')", Long.class);
+    }
+
+    private void assertIdServedBy(String table, String sequence) {
+        String isIdentity = jdbcTemplate.queryForObject(
+                "SELECT is_identity FROM information_schema.columns WHERE table_schema = 'public' AND table_name = ? AND column_name = 'id'",
+                String.class, table);
+        String columnDefault = jdbcTemplate.queryForObject(
+                "SELECT column_default FROM information_schema.columns WHERE table_schema = 'public' AND table_name = ? AND column_name = 'id'",
+                String.class, table);
+
+        assertThat(isIdentity).isEqualTo("NO");
+        assertThat(columnDefault).isEqualTo("nextval('" + sequence + "'::regclass)");
+    }
+}
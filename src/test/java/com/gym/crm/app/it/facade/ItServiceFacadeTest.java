@@ -466,7 +466,7 @@ class ItServiceFacadeTest extends AbstractItTest {
         String trainerName = "Emily";
 
         // when
-        List<GetTraineeTrainingsResponse> actual = serviceFacade.getTraineeTrainingsByCriteria(username, from, to, trainerName, null);
+        List<GetTraineeTrainingsResponse> actual = serviceFacade.getTraineeTrainingsByCriteria(username, from, to, trainerName, null, null, null).content();
 
         // then
         assertThat(actual).hasSize(1);
@@ -483,7 +483,7 @@ class ItServiceFacadeTest extends AbstractItTest {
         String traineeName = "John";
 
         // when
-        List<GetTrainerTrainingsResponse> actual = serviceFacade.getTrainerTrainingsByCriteria(username, from, to, traineeName);
+        List<GetTrainerTrainingsResponse> actual = serviceFacade.getTrainerTrainingsByCriteria(username, from, to, traineeName, null, null).content();
 
         // then
         assertThat(actual).hasSize(1);
@@ -531,7 +531,7 @@ class ItServiceFacadeTest extends AbstractItTest {
         String username = "John.Doe";
 
         // when
-        List<TrainerProfileWithUsername> actual = serviceFacade.getTrainersNotAssignedByTraineeUsername(username);
+        List<TrainerProfileWithUsername> actual = serviceFacade.getTrainersNotAssignedByTraineeUsername(username, null, null, null).content();
 
         // then
         assertThat(actual).hasSize(1);
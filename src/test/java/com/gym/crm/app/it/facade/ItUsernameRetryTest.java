@@ -0,0 +1,99 @@
+package com.gym.crm.app.it.facade;
+
+import com.gym.crm.app.facade.ServiceFacade;
+import com.gym.crm.app.it.AbstractItTest;
+import com.gym.crm.app.repository.TraineeRepository;
+import com.gym.crm.app.repository.TrainerRepository;
+import com.gym.crm.app.rest.model.TraineeCreateRequest;
+import com.gym.crm.app.rest.model.TrainerCreateRequest;
+import com.gym.crm.app.rest.model.UserCredentials;
+import com.gym.crm.app.service.common.UsernameAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest
+@Testcontainers
+class ItUsernameRetryTest extends AbstractItTest {
+
+    private static final String TAKEN_USERNAME = "John.Doe";
+    private static final String FIRST_NAME = "Retry";
+    private static final String LAST_NAME = "Profile";
+    private static final String EXPECTED_USERNAME = FIRST_NAME + "." + LAST_NAME;
+
+    @SpyBean
+    private UsernameAllocator usernameAllocator;
+
+    @Autowired
+    private ServiceFacade serviceFacade;
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private TraineeRepository traineeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM public.trainer WHERE user_id IN (SELECT id FROM public.\"user\" WHERE username = ?)", EXPECTED_USERNAME);
+        jdbcTemplate.update("DELETE FROM public.trainee WHERE user_id IN (SELECT id FROM public.\"user\" WHERE username = ?)", EXPECTED_USERNAME);
+        jdbcTemplate.update("DELETE FROM public.user_role WHERE user_id IN (SELECT id FROM public.\"user\" WHERE username = ?)", EXPECTED_USERNAME);
+        jdbcTemplate.update("DELETE FROM public.\"user\" WHERE username = ?", EXPECTED_USERNAME);
+        jdbcTemplate.update("DELETE FROM public.username_counter WHERE base_name = ?", EXPECTED_USERNAME);
+    }
+
+    @Test
+    @DisplayName("Test create trainer profile retries after username collision functionality")
+    void givenCollidingUsername_whenCreateTrainerProfile_thenNextUsernameIsSaved() {
+        // given
+        TrainerCreateRequest request = new TrainerCreateRequest()
+                .firstName(FIRST_NAME)
+                .lastName(LAST_NAME)
+                .specialization("Yoga");
+        BindingResult bindingResult = new BeanPropertyBindingResult(request, "createTrainerProfile");
+        doReturn(TAKEN_USERNAME).doCallRealMethod().when(usernameAllocator).allocate(anyString());
+
+        // when
+        UserCredentials actual = serviceFacade.createTrainerProfile(request, bindingResult);
+
+        // then
+        assertThat(actual.getUsername()).isEqualTo(EXPECTED_USERNAME);
+        assertThat(trainerRepository.findByUserUsername(EXPECTED_USERNAME)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Test create trainee profile retries after username collision functionality")
+    void givenCollidingUsername_whenCreateTraineeProfile_thenNextUsernameIsSaved() {
+        // given
+        TraineeCreateRequest request = new TraineeCreateRequest()
+                .firstName(FIRST_NAME)
+                .lastName(LAST_NAME)
+                .dateOfBirth(LocalDate.parse("2000-01-01"))
+                .address("Address");
+        BindingResult bindingResult = new BeanPropertyBindingResult(request, "createTraineeProfile");
+        doReturn(TAKEN_USERNAME).doCallRealMethod().when(usernameAllocator).allocate(anyString());
+
+        // when
+        UserCredentials actual = serviceFacade.createTraineeProfile(request, bindingResult);
+
+        // then
+        assertThat(actual.getUsername()).isEqualTo(EXPECTED_USERNAME);
+        assertThat(traineeRepository.findByUserUsername(EXPECTED_USERNAME)).isPresent();
+    }
+}
@@ -0,0 +1,148 @@
+package com.gym.crm.app.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncLogDispatcherTest {
+
+    @Mock
+    private MessageHelper messageHelper;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Logger logger = (Logger) LoggerFactory.getLogger("async-log-dispatcher-test");
+    private ListAppender<ILoggingEvent> listAppender;
+
+    @BeforeEach
+    void setUp() {
+        listAppender = new ListAppender<>();
+        listAppender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        listAppender.start();
+
+        logger.addAppender(listAppender);
+        logger.setLevel(ch.qos.logback.classic.Level.TRACE);
+
+        given(messageHelper.getMessage(any(Locale.class), anyString(), any(Object[].class)))
+                .willAnswer(invocation -> invocation.getArgument(1) + ":" + invocation.getArgument(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(listAppender);
+    }
+
+    @Test
+    @DisplayName("Test queued events are written on flush")
+    void givenQueuedEvents_whenFlush_thenEventsAreWrittenInOrder() {
+        // given
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(messageHelper, registry, 10, 2, AsyncLogDispatcher.OverflowPolicy.DROP_NEWEST);
+
+        dispatcher.dispatch(logger, Level.INFO, "FIRST", "a");
+        dispatcher.dispatch(logger, Level.DEBUG, "SECOND", "b");
+        dispatcher.dispatch(logger, Level.INFO, "THIRD", "c");
+
+        // when
+        assertThat(listAppender.list).isEmpty();
+        assertThat(registry.get("log_events_queued").gauge().value()).isEqualTo(3);
+        dispatcher.flush();
+
+        // then
+        assertThat(listAppender.list).extracting("formattedMessage")
+                .containsExactly("FIRST:a", "SECOND:b", "THIRD:c");
+        assertThat(listAppender.list).extracting("level")
+                .containsExactly(ch.qos.logback.classic.Level.INFO, ch.qos.logback.classic.Level.DEBUG, ch.qos.logback.classic.Level.INFO);
+    }
+
+    @Test
+    @DisplayName("Test newest events are dropped when buffer is full")
+    void givenFullBuffer_whenDispatch_thenNewestEventIsDropped() {
+        // given
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(messageHelper, registry, 2, 10, AsyncLogDispatcher.OverflowPolicy.DROP_NEWEST);
+
+        // when
+        dispatcher.dispatch(logger, Level.INFO, "FIRST", "a");
+        dispatcher.dispatch(logger, Level.INFO, "SECOND", "b");
+        dispatcher.dispatch(logger, Level.INFO, "THIRD", "c");
+        dispatcher.flush();
+
+        // then
+        assertThat(listAppender.list).extracting("formattedMessage")
+                .containsExactly("FIRST:a", "SECOND:b");
+        assertThat(registry.get("log_events_dropped_total").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test oldest events are dropped when buffer is full")
+    void givenFullBufferAndDropOldestPolicy_whenDispatch_thenOldestEventIsDropped() {
+        // given
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(messageHelper, registry, 2, 10, AsyncLogDispatcher.OverflowPolicy.DROP_OLDEST);
+
+        // when
+        dispatcher.dispatch(logger, Level.INFO, "FIRST", "a");
+        dispatcher.dispatch(logger, Level.INFO, "SECOND", "b");
+        dispatcher.dispatch(logger, Level.INFO, "THIRD", "c");
+        dispatcher.flush();
+
+        // then
+        assertThat(listAppender.list).extracting("formattedMessage")
+                .containsExactly("SECOND:b", "THIRD:c");
+        assertThat(registry.get("log_events_dropped_total").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test error events are written synchronously when buffer is full")
+    void givenFullBuffer_whenDispatchError_thenErrorIsWrittenImmediately() {
+        // given
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(messageHelper, registry, 1, 10, AsyncLogDispatcher.OverflowPolicy.DROP_NEWEST);
+
+        // when
+        dispatcher.dispatch(logger, Level.INFO, "FIRST", "a");
+        dispatcher.dispatch(logger, Level.ERROR, "FAILURE", "b");
+
+        // then
+        assertThat(listAppender.list).extracting("formattedMessage")
+                .containsExactly("FAILURE:b");
+        assertThat(registry.get("log_events_dropped_total").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test background writer drains events")
+    void givenStartedDispatcher_whenDispatch_thenEventIsWrittenInBackground() throws Exception {
+        // given
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(messageHelper, registry, 10, 10, AsyncLogDispatcher.OverflowPolicy.DROP_NEWEST);
+        dispatcher.start();
+
+        // when
+        dispatcher.dispatch(logger, Level.INFO, "FIRST", "a");
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (listAppender.list.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        dispatcher.stop();
+
+        // then
+        assertThat(listAppender.list).extracting("formattedMessage")
+                .containsExactly("FIRST:a");
+        assertThat(listAppender.list.get(0).getThreadName()).isEqualTo("async-log-writer");
+    }
+}
@@ -0,0 +1,51 @@
+package com.gym.crm.app.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BodyLoggingPolicyTest {
+
+    private final BodyLoggingPolicy policy = new BodyLoggingPolicy();
+
+    @Test
+    @DisplayName("Test longest matching endpoint sample rate is applied")
+    void givenEndpointSampleRates_whenIsSampled_thenLongestPrefixWins() {
+        // given
+        policy.setDefaultSampleRate(0.0);
+        policy.setSampleRates(Map.of("/api/v1", 0.0, "/api/v1/trainings", 1.0));
+
+        // when
+        boolean trainings = policy.isSampled("/api/v1/trainings");
+        boolean trainees = policy.isSampled("/api/v1/trainees/John.Doe");
+        boolean other = policy.isSampled("/other");
+
+        // then
+        assertThat(trainings).isTrue();
+        assertThat(trainees).isFalse();
+        assertThat(other).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test excluded content types are not captured")
+    void givenExcludedContentTypes_whenIsCapturable_thenOnlyOtherTypesAreCaptured() {
+        // given
+        policy.setExcludedContentTypes(List.of("text/csv", "image/"));
+
+        // when
+        boolean json = policy.isCapturable("application/json");
+        boolean csv = policy.isCapturable("text/csv;charset=UTF-8");
+        boolean image = policy.isCapturable("image/png");
+        boolean unknown = policy.isCapturable(null);
+
+        // then
+        assertThat(json).isTrue();
+        assertThat(csv).isFalse();
+        assertThat(image).isFalse();
+        assertThat(unknown).isTrue();
+    }
+}
@@ -0,0 +1,75 @@
+package com.gym.crm.app.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLogRedactorTest {
+
+    private final JsonLogRedactor redactor = new JsonLogRedactor(new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(redactor, "maxBodyLength", 2048);
+    }
+
+    @Test
+    @DisplayName("Test sensitive fields are masked functionality")
+    void givenBodyWithCredentials_whenRedact_thenCredentialsAreMasked() {
+        // given
+        String body = """
+                {"username": "John.Doe", "profile": {"password": "secret", "firstName": "John"},
+                 "accessToken": {"value": "a.b.c"}, "tags": [1, 2.5, true, null]}
+                """;
+
+        // when
+        String actual = redactor.redact(body.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(actual).isEqualTo("{\"username\":\"****\",\"profile\":{\"password\":\"****\",\"firstName\":\"John\"},"
+                + "\"accessToken\":\"****\",\"tags\":[1,2.5,true,null]}");
+    }
+
+    @Test
+    @DisplayName("Test long body is truncated functionality")
+    void givenLongBody_whenRedact_thenBodyIsTruncated() {
+        // given
+        ReflectionTestUtils.setField(redactor, "maxBodyLength", 16);
+        String body = "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"password\":\"secret\"}";
+
+        // when
+        String actual = redactor.redact(body.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(actual).isEqualTo("{\"firstName\":\"Jo...[truncated]");
+    }
+
+    @Test
+    @DisplayName("Test invalid body is not logged functionality")
+    void givenInvalidJson_whenRedact_thenPlaceholderIsReturned() {
+        // given
+        byte[] body = "password=secret".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String actual = redactor.redact(body);
+
+        // then
+        assertThat(actual).isEqualTo("[unparseable body of 15 bytes]");
+    }
+
+    @Test
+    @DisplayName("Test empty body functionality")
+    void givenEmptyBody_whenRedact_thenEmptyStringIsReturned() {
+        // when
+        String actual = redactor.redact(new byte[0]);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+}
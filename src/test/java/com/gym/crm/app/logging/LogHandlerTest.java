@@ -3,10 +3,9 @@ package com.gym.crm.app.logging;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
-import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.read.ListAppender;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,15 +19,23 @@ import org.slf4j.MDC;
 
 import java.util.Arrays;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class LogHandlerTest {
 
+    private static final String METHOD_NAME = "testMethod";
+    private static final String CLASS_NAME = "TestClass";
+    private static final String TRANSACTION_ID = "transactionId";
+
     @Mock
-    private MessageHelper messageHelper;
+    private AsyncLogDispatcher logDispatcher;
 
     @Mock
     private JoinPoint joinPoint;
@@ -39,109 +46,114 @@ class LogHandlerTest {
     @InjectMocks
     private LogHandler logHandler;
 
-    private ListAppender<ILoggingEvent> listAppender;
+    private Logger logger;
+    private MockedStatic<MDC> mockedStatic;
 
     @BeforeEach
     void setUp() {
         LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
-        Logger logger = loggerContext.getLogger(LogHandler.class);
+        logger = loggerContext.getLogger(LogHandler.class);
+        logger.setLevel(Level.TRACE);
 
-        listAppender = new ListAppender<>();
-        listAppender.setContext(loggerContext);
-        listAppender.start();
+        mockedStatic = mockStatic(MDC.class);
+        mockedStatic.when(() -> MDC.get("transactionId")).thenReturn(TRANSACTION_ID);
+    }
 
-        logger.addAppender(listAppender);
-        logger.setLevel(Level.TRACE);
+    @AfterEach
+    void tearDown() {
+        mockedStatic.close();
+        logger.setLevel(null);
     }
 
     @Test
     @DisplayName("Test log before method")
-    void givenJoinPoint_whenLogBefore_thenLogsInfoAndDebugMessages() {
+    void givenJoinPoint_whenLogBefore_thenDispatchesInfoAndDebugMessages() {
         // given
-        String methodName = "testMethod";
-        String className = "TestClass";
-        String transactionId = "transactionId";
         Object[] args = {1, "test"};
-        String infoMessage = "Info message";
-        String debugMessage = "Debug message";
 
-        MockedStatic<MDC> mockedStatic = mockStatic(MDC.class);
-        mockedStatic.when(() -> MDC.get("transactionId")).thenReturn(transactionId);
-
-        given(joinPoint.getSignature()).willReturn(signature);
-        given(signature.getName()).willReturn(methodName);
-        given(signature.getDeclaringTypeName()).willReturn(className);
+        givenSignature();
         given(joinPoint.getArgs()).willReturn(args);
-        given(messageHelper.getMessage("INFO_CODE", methodName, className, transactionId)).willReturn(infoMessage);
-        given(messageHelper.getMessage("DEBUG_CODE", className, methodName, transactionId, Arrays.toString(args))).willReturn(debugMessage);
 
         // when
         logHandler.logBefore(joinPoint, "INFO_CODE", "DEBUG_CODE");
 
         // then
-        assertThat(listAppender.list).extracting("formattedMessage")
-                .containsExactly(infoMessage, debugMessage);
+        verify(logDispatcher).dispatch(any(org.slf4j.Logger.class), eq(org.slf4j.event.Level.INFO), eq("INFO_CODE"),
+                eq(METHOD_NAME), eq(CLASS_NAME), eq(TRANSACTION_ID));
+        verify(logDispatcher).dispatch(any(org.slf4j.Logger.class), eq(org.slf4j.event.Level.DEBUG), eq("DEBUG_CODE"),
+                eq(CLASS_NAME), eq(METHOD_NAME), eq(TRANSACTION_ID), eq(Arrays.toString(args)));
+    }
 
-        mockedStatic.close();
+    @Test
+    @DisplayName("Test log before method skips arguments when debug is disabled")
+    void givenDebugDisabled_whenLogBefore_thenArgumentsAreNotFormatted() {
+        // given
+        logger.setLevel(Level.INFO);
+
+        givenSignature();
+
+        // when
+        logHandler.logBefore(joinPoint, "INFO_CODE", "DEBUG_CODE");
+
+        // then
+        verify(joinPoint, never()).getArgs();
+        verify(logDispatcher).dispatch(any(org.slf4j.Logger.class), eq(org.slf4j.event.Level.INFO), eq("INFO_CODE"),
+                eq(METHOD_NAME), eq(CLASS_NAME), eq(TRANSACTION_ID));
+        verifyNoMoreInteractions(logDispatcher);
+    }
+
+    @Test
+    @DisplayName("Test log before method does nothing when info is disabled")
+    void givenInfoDisabled_whenLogBefore_thenNothingIsDispatched() {
+        // given
+        logger.setLevel(Level.WARN);
+
+        // when
+        logHandler.logBefore(joinPoint, "INFO_CODE", "DEBUG_CODE");
+
+        // then
+        verifyNoMoreInteractions(logDispatcher, joinPoint);
     }
 
     @Test
     @DisplayName("Test log after returning method")
-    void givenJoinPointAndResult_whenLogAfterReturning_thenLogsInfoAndDebugMessages() {
+    void givenJoinPointAndResult_whenLogAfterReturning_thenDispatchesInfoAndDebugMessages() {
         // given
-        String methodName = "testMethod";
-        String className = "TestClass";
-        String transactionId = "transactionId";
         Object result = "result";
-        String infoMessage = "Info message";
-        String debugMessage = "Debug message";
 
-        MockedStatic<MDC> mockedStatic = mockStatic(MDC.class);
-        mockedStatic.when(() -> MDC.get("transactionId")).thenReturn(transactionId);
-
-        given(joinPoint.getSignature()).willReturn(signature);
-        given(signature.getName()).willReturn(methodName);
-        given(signature.getDeclaringTypeName()).willReturn(className);
-        given(messageHelper.getMessage("INFO_CODE", methodName, className, transactionId)).willReturn(infoMessage);
-        given(messageHelper.getMessage("DEBUG_CODE", className, methodName, transactionId, result)).willReturn(debugMessage);
+        givenSignature();
 
         // when
         logHandler.logAfterReturning(joinPoint, result, "INFO_CODE", "DEBUG_CODE");
 
         // then
-        assertThat(listAppender.list).extracting("formattedMessage")
-                .containsExactly(infoMessage, debugMessage);
-
-        mockedStatic.close();
+        verify(logDispatcher).dispatch(any(org.slf4j.Logger.class), eq(org.slf4j.event.Level.INFO), eq("INFO_CODE"),
+                eq(METHOD_NAME), eq(CLASS_NAME), eq(TRANSACTION_ID));
+        verify(logDispatcher).dispatch(any(org.slf4j.Logger.class), eq(org.slf4j.event.Level.DEBUG), eq("DEBUG_CODE"),
+                eq(CLASS_NAME), eq(METHOD_NAME), eq(TRANSACTION_ID), eq(result));
     }
 
     @Test
     @DisplayName("Test log after throwing method")
-    void givenJoinPointAndException_whenLogAfterThrowing_thenLogsInfoAndErrorMessages() {
+    void givenJoinPointAndException_whenLogAfterThrowing_thenDispatchesInfoAndErrorMessages() {
         // given
-        String methodName = "testMethod";
-        String className = "TestClass";
-        String transactionId = "transactionId";
         Exception ex = new RuntimeException("Error occurred");
-        String infoMessage = "Info message";
-        String errorMessage = "Error message";
-
-        MockedStatic<MDC> mockedStatic = mockStatic(MDC.class);
-        mockedStatic.when(() -> MDC.get("transactionId")).thenReturn(transactionId);
 
-        given(joinPoint.getSignature()).willReturn(signature);
-        given(signature.getName()).willReturn(methodName);
-        given(signature.getDeclaringTypeName()).willReturn(className);
-        given(messageHelper.getMessage("INFO_CODE", methodName, className, transactionId)).willReturn(infoMessage);
-        given(messageHelper.getMessage("ERROR_CODE", className, methodName, transactionId, ex.getMessage())).willReturn(errorMessage);
+        givenSignature();
 
         // when
         logHandler.logAfterThrowing(joinPoint, ex, "INFO_CODE", "ERROR_CODE");
 
         // then
-        assertThat(listAppender.list).extracting("formattedMessage")
-                .containsExactly(infoMessage, errorMessage);
+        verify(logDispatcher).dispatch(any(org.slf4j.Logger.class), eq(org.slf4j.event.Level.INFO), eq("INFO_CODE"),
+                eq(METHOD_NAME), eq(CLASS_NAME), eq(TRANSACTION_ID));
+        verify(logDispatcher).dispatch(any(org.slf4j.Logger.class), eq(org.slf4j.event.Level.ERROR), eq("ERROR_CODE"),
+                eq(CLASS_NAME), eq(METHOD_NAME), eq(TRANSACTION_ID), eq(ex.getMessage()));
+    }
 
-        mockedStatic.close();
+    private void givenSignature() {
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getName()).willReturn(METHOD_NAME);
+        given(signature.getDeclaringTypeName()).willReturn(CLASS_NAME);
     }
 }
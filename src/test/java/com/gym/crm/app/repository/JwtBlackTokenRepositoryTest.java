@@ -8,6 +8,7 @@ import org.springframework.test.annotation.Rollback;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,47 +17,40 @@ import static org.assertj.core.api.Assertions.assertThat;
 class JwtBlackTokenRepositoryTest extends AbstractTestRepository<JwtBlackTokenRepository> {
 
     @Test
-    @DisplayName("Test token exists functionality")
-    void givenToken_whenExistsByToken_thenReturnTrue() {
+    @DisplayName("Test find unexpired tokens functionality")
+    void givenExpiredAndValidTokens_whenFindAllByExpiryDateAfter_thenOnlyValidTokenIsReturned() {
         // given
-        JwtBlackToken token = EntityTestData.getValidJwtBlackToken();
-        entityManager.persist(token);
-
-        // when
-        boolean exists = repository.existsByToken(token.getToken());
-
-        // then
-        assertThat(exists).isTrue();
-    }
+        JwtBlackToken expiredToken = EntityTestData.getExpiredJwtBlackToken();
+        JwtBlackToken validToken = EntityTestData.getValidJwtBlackToken();
 
-    @Test
-    @DisplayName("Test token does not exist functionality")
-    void givenNonExistentToken_whenExistsByToken_thenReturnFalse() {
-        // given
-        String nonExistentToken = "non_existent_token";
+        entityManager.persist(expiredToken);
+        entityManager.persist(validToken);
 
         // when
-        boolean exists = repository.existsByToken(nonExistentToken);
+        List<JwtBlackToken> actual = repository.findAllByExpiryDateAfter(LocalDateTime.now());
 
         // then
-        assertThat(exists).isFalse();
+        assertThat(actual).containsExactly(validToken);
     }
 
     @Test
-    @DisplayName("Test delete by expiry date before functionality")
-    void givenExpiredTokens_whenDeleteByExpiryDateBefore_thenTokensDeleted() {
+    @DisplayName("Test delete expired batch functionality")
+    void givenExpiredTokens_whenDeleteExpiredBatch_thenOnlyExpiredTokensDeleted() {
         // given
         JwtBlackToken expiredToken = EntityTestData.getExpiredJwtBlackToken();
         JwtBlackToken validToken = EntityTestData.getValidJwtBlackToken();
 
         entityManager.persist(expiredToken);
         entityManager.persist(validToken);
+        entityManager.flush();
 
         // when
-        repository.deleteByExpiryDateBefore(LocalDateTime.now());
+        int deleted = repository.deleteExpiredBatch(LocalDateTime.now(), 100);
 
         // then
-        assertThat(repository.existsByToken(expiredToken.getToken())).isFalse();
-        assertThat(repository.existsByToken(validToken.getToken())).isTrue();
+        assertThat(deleted).isEqualTo(1);
+        entityManager.clear();
+        assertThat(repository.findById(expiredToken.getId())).isEmpty();
+        assertThat(repository.findById(validToken.getId())).isPresent();
     }
-}
\ No newline at end of file
+}
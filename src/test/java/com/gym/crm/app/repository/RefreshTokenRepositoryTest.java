@@ -1,12 +1,16 @@
 package com.gym.crm.app.repository;
 
 import com.gym.crm.app.entity.RefreshToken;
+import com.gym.crm.app.security.TokenDigestUtil;
 import com.gym.crm.app.utils.EntityTestData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.annotation.Rollback;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -16,96 +20,80 @@ import static org.assertj.core.api.Assertions.assertThat;
 class RefreshTokenRepositoryTest extends AbstractTestRepository<RefreshTokenRepository> {
 
     @Test
-    @DisplayName("Test find refresh token by token functionality")
-    public void givenToken_whenFindByToken_thenTokenIsFound() {
+    @DisplayName("Test delete refresh token by token digest functionality")
+    public void givenTokenDigest_whenDeleteByTokenDigest_thenTokenIsDeleted() {
         // given
         RefreshToken expected = EntityTestData.getTransientValidRefreshToken();
+        expected.setTokenDigest(TokenDigestUtil.digest(expected.getToken()));
         entityManager.persist(expected.getUser());
         entityManager.persist(expected);
+        entityManager.flush();
 
         // when
-        Optional<RefreshToken> actual = repository.findByToken(expected.getToken());
+        int actual = repository.deleteByTokenDigest(TokenDigestUtil.digest("token"), "token", false);
 
         // then
-        assertThat(actual.isPresent()).isTrue();
-        assertThat(actual.get()).isEqualTo(expected);
+        assertThat(actual).isEqualTo(1);
+        entityManager.clear();
+        assertThat(repository.findById(expected.getId())).isEmpty();
     }
 
     @Test
-    @DisplayName("Test find refresh token by incorrect token functionality")
-    public void givenIncorrectToken_whenFindByToken_thenTokenIsNotFound() {
-        // when
-        Optional<RefreshToken> actual = repository.findByToken("invalid token");
-
-        // then
-        assertThat(actual.isEmpty()).isTrue();
-    }
-
-    @Test
-    @DisplayName("Test find id refresh token by user username functionality")
-    public void givenUsername_whenFindTokenIdByUserUsername_thenIdIsFound() {
+    @DisplayName("Test upsert replaces user refresh token in a single statement")
+    public void givenExistingToken_whenUpsertByUsername_thenSingleStatementIsExecuted() {
         // given
-        RefreshToken expected = EntityTestData.getTransientValidRefreshToken();
-        entityManager.persist(expected.getUser());
-        entityManager.persist(expected);
+        RefreshToken existing = EntityTestData.getTransientValidRefreshToken();
+        entityManager.persist(existing.getUser());
+        entityManager.persist(existing);
+        entityManager.flush();
 
-        // when
-        Long actual = repository.findTokenIdByUserUsername(expected.getUser().getUsername());
+        Statistics statistics = startStatistics();
+        LocalDateTime now = LocalDateTime.now();
 
-        // then
-        assertThat(actual).isNotNull();
-        assertThat(actual).isEqualTo(expected.getId());
-    }
-
-    @Test
-    @DisplayName("Test find id refresh token by incorrect user username functionality")
-    public void givenIncorrectUsername_whenFindTokenIdByUserUsername_thenIdIsNotFound() {
         // when
-        Long actual = repository.findTokenIdByUserUsername("invalid username");
+        Optional<Long> actual = repository.upsertByUsername(existing.getUser().getUsername(),
+                TokenDigestUtil.digest("new_token"), now.plusDays(7), now);
 
         // then
-        assertThat(actual).isNull();
+        assertThat(actual).contains(existing.getUser().getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(repository.findById(existing.getId()).orElseThrow().getTokenDigest())
+                .isEqualTo(TokenDigestUtil.digest("new_token"));
     }
 
     @Test
-    @DisplayName("Test find user username by token functionality")
-    public void givenToken_whenFindUsernameByToken_thenUsernameIsFound() {
+    @DisplayName("Test rotate consumes refresh token in a single statement")
+    public void givenValidToken_whenRotate_thenSingleStatementReturnsUsername() {
         // given
-        RefreshToken expected = EntityTestData.getTransientValidRefreshToken();
-        entityManager.persist(expected.getUser());
-        entityManager.persist(expected);
-
-        // when
-        String actual = repository.findUsernameByToken(expected.getToken());
+        RefreshToken existing = EntityTestData.getTransientValidRefreshToken();
+        existing.setTokenDigest(TokenDigestUtil.digest(existing.getToken()));
+        entityManager.persist(existing.getUser());
+        entityManager.persist(existing);
+        entityManager.flush();
 
-        // then
-        assertThat(actual).isNotNull();
-        assertThat(actual).isEqualTo(expected.getUser().getUsername());
-    }
+        Statistics statistics = startStatistics();
+        LocalDateTime now = LocalDateTime.now();
 
-    @Test
-    @DisplayName("Test find user username by incorrect token functionality")
-    public void givenIncorrectToken_whenFindUsernameByToken_thenUsernameIsNotFound() {
         // when
-        String actual = repository.findUsernameByToken("invalid token");
+        Optional<String> actual = repository.rotate(TokenDigestUtil.digest("token"), "token", false,
+                TokenDigestUtil.digest("rotated_token"), now.plusDays(7), now);
+        Optional<String> replayed = repository.rotate(TokenDigestUtil.digest("token"), "token", false,
+                TokenDigestUtil.digest("another_token"), now.plusDays(7), now);
 
         // then
-        assertThat(actual).isNull();
+        assertThat(actual).contains(existing.getUser().getUsername());
+        assertThat(replayed).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
     }
 
-    @Test
-    @DisplayName("Test delete refresh token by token functionality")
-    public void givenToken_whenDeleteByToken_thenTokenIsDeleted() {
-        // given
-        RefreshToken expected = EntityTestData.getTransientValidRefreshToken();
-        entityManager.persist(expected.getUser());
-        entityManager.persist(expected);
+    private Statistics startStatistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
 
-        // when
-        repository.deleteByToken(expected.getToken());
-
-        // then
-        Optional<RefreshToken> actual = repository.findByToken(expected.getToken());
-        assertThat(actual.isEmpty()).isTrue();
+        return statistics;
     }
-}
\ No newline at end of file
+}
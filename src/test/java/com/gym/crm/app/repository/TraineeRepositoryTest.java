@@ -1,13 +1,16 @@
 package com.gym.crm.app.repository;
 
 import com.gym.crm.app.entity.Trainee;
+import com.gym.crm.app.entity.Trainer;
 import com.gym.crm.app.utils.EntityTestData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -154,6 +157,50 @@ class TraineeRepositoryTest extends AbstractTestRepository<TraineeRepository> {
         assertThat(actual).isNull();
     }
 
+    @Test
+    @DisplayName("Test assign and unassign trainers functionality")
+    public void givenTrainers_whenAssignAndUnassignTrainers_thenOnlyRemainingTrainersAreAssigned() {
+        // given
+        Trainee trainee = EntityTestData.getTransientTraineeJohnDoe();
+        Trainer emily = EntityTestData.getTransientTrainerEmilyDavis();
+        Trainer david = EntityTestData.getTransientTrainerDavidBrown();
+        entityManager.persist(trainee);
+        entityManager.persist(emily);
+        entityManager.persist(david);
+        entityManager.flush();
+
+        // when
+        repository.assignTrainers(trainee.getId(), List.of(emily.getId(), david.getId()));
+        repository.unassignTrainers(trainee.getId(), List.of(emily.getId()));
+
+        // then
+        List<Long> actual = repository.findTrainerIdsByTraineeId(trainee.getId());
+
+        assertThat(actual).containsExactly(david.getId());
+        assertThat(repository.findIdByUserUsername(trainee.getUser().getUsername())).contains(trainee.getId());
+    }
+
+    @Test
+    @DisplayName("Test assign already assigned trainer functionality")
+    public void givenAssignedTrainer_whenAssignTrainersAgain_thenPairIsStoredOnce() {
+        // given
+        Trainee trainee = EntityTestData.getTransientTraineeJohnDoe();
+        Trainer emily = EntityTestData.getTransientTrainerEmilyDavis();
+        entityManager.persist(trainee);
+        entityManager.persist(emily);
+        entityManager.flush();
+        repository.assignTrainers(trainee.getId(), List.of(emily.getId()));
+
+        // when
+        repository.assignTrainers(trainee.getId(), List.of(emily.getId()));
+        repository.assignTrainersIfAbsent(Map.of(trainee.getId(), Set.of(emily.getId())), 10);
+
+        // then
+        List<Long> actual = repository.findTrainerIdsByTraineeId(trainee.getId());
+
+        assertThat(actual).containsExactly(emily.getId());
+    }
+
     private List<Trainee> addTraineeList() {
         Trainee trainee1 = EntityTestData.getTransientTraineeJohnDoe();
         Trainee trainee2 = EntityTestData.getTransientTraineeJaneSmith();
@@ -2,9 +2,11 @@ package com.gym.crm.app.repository;
 
 import com.gym.crm.app.entity.Trainee;
 import com.gym.crm.app.entity.Trainer;
+import com.gym.crm.app.repository.projection.TrainerView;
 import com.gym.crm.app.utils.EntityTestData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.List;
@@ -140,11 +142,11 @@ class TrainerRepositoryTest extends AbstractTestRepository<TrainerRepository> {
         String username = "John.Doe";
 
         // when
-        List<Trainer> actual = repository.getTrainersNotAssignedByTraineeUsername(username);
+        List<TrainerView> actual = repository.findAvailableTrainerViews(username, null, null, Limit.unlimited());
 
         // then
         assertThat(actual.size()).isEqualTo(1);
-        assertThat(actual.get(0).getUser().getUsername()).isEqualTo("David.Brown");
+        assertThat(actual.get(0).username()).isEqualTo("David.Brown");
     }
 
     private List<Trainer> addTrainerList() {
@@ -1,19 +1,24 @@
 package com.gym.crm.app.repository;
 
 import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.repository.projection.TrainingView;
 import com.gym.crm.app.service.search.TraineeTrainingSearchFilter;
 import com.gym.crm.app.service.search.TrainerTrainingSearchFilter;
+import com.gym.crm.app.service.search.TrainingCursor;
 import com.gym.crm.app.service.spectification.TraineeTrainingSpecification;
 import com.gym.crm.app.service.spectification.TrainerTrainingSpecification;
 import com.gym.crm.app.utils.EntityTestData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -246,6 +251,98 @@ class TrainingRepositoryTest extends AbstractTestRepository<TrainingRepository>
         assertThat(trainings.size()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("Test find trainee trainings after cursor functionality")
+    public void givenCursor_whenFindTrainings_thenOlderTrainingsAreReturned() {
+        // given
+        Training newest = EntityTestData.getTransientTrainingEmilyDavis();
+        Training oldest = EntityTestData.getTransientTrainingEmilyDavis().toBuilder()
+                .trainee(newest.getTrainee())
+                .trainer(newest.getTrainer())
+                .trainingDate(newest.getTrainingDate().minusDays(1))
+                .build();
+
+        entityManager.persist(newest);
+        entityManager.persist(oldest);
+
+        TraineeTrainingSearchFilter searchFilter = TraineeTrainingSearchFilter.builder()
+                .username(newest.getTrainee().getUser().getUsername())
+                .cursor(new TrainingCursor(newest.getTrainingDate(), newest.getId()))
+                .build();
+        Specification<Training> specification = TraineeTrainingSpecification.findByCriteria(searchFilter);
+
+        // when
+        List<Training> trainings = repository.findAll(specification);
+
+        // then
+        assertThat(trainings).containsExactly(oldest);
+    }
+
+    @Test
+    @DisplayName("Test find trainee training views functionality")
+    public void givenTraineeCriteria_whenFindViews_thenProjectedTrainingsAreReturned() {
+        // given
+        List<Training> trainings = addTraineeTrainingList();
+        Training training = trainings.get(0);
+
+        TraineeTrainingSearchFilter searchFilter = TraineeTrainingSearchFilter.builder()
+                .username(training.getTrainee().getUser().getUsername())
+                .build();
+        Specification<Training> specification = TraineeTrainingSpecification.findByCriteria(searchFilter);
+        Sort sort = Sort.by(Sort.Order.desc("trainingDate"), Sort.Order.desc("id"));
+
+        // when
+        List<TrainingView> actual = repository.findViews(specification, sort, Limit.of(10));
+
+        // then
+        assertThat(actual).containsExactly(new TrainingView(
+                training.getId(),
+                training.getTrainingName(),
+                training.getTrainingDate(),
+                training.getTrainingType().getTrainingTypeName(),
+                training.getTrainingDuration(),
+                training.getTrainer().getUser().getFirstName(),
+                training.getTrainee().getUser().getFirstName()));
+    }
+
+    @Test
+    @DisplayName("Test stream training views functionality")
+    public void givenTrainings_whenStreamViews_thenAllTrainingsAreStreamed() {
+        // given
+        List<Training> trainings = addTraineeTrainingList();
+        Sort sort = Sort.by(Sort.Order.asc("trainingDate"), Sort.Order.asc("id"));
+
+        // when
+        List<Long> actual;
+        try (Stream<TrainingView> views = repository.streamViews(Specification.where(null), sort, 1)) {
+            actual = views.map(TrainingView::id).toList();
+        }
+
+        // then
+        assertThat(actual).containsAll(trainings.stream().map(Training::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Test insert trainings with allocated ids functionality")
+    public void givenAllocatedIds_whenInsertAll_thenTrainingsAreInserted() {
+        // given
+        Training persisted = addTraineeTrainingList().get(0);
+        entityManager.flush();
+
+        List<Long> ids = repository.allocateIds(Training.ID_ALLOCATION_SIZE + 1);
+        List<Training> trainings = ids.stream()
+                .map(id -> persisted.toBuilder().id(id).build())
+                .toList();
+
+        // when
+        repository.insertAll(trainings, 20);
+        entityManager.clear();
+
+        // then
+        assertThat(ids).doesNotHaveDuplicates().doesNotContain(persisted.getId());
+        assertThat(repository.findAllById(ids)).hasSize(ids.size());
+    }
+
     private List<Training> addTraineeTrainingList() {
         Training training1 = EntityTestData.getTransientTrainingEmilyDavis();
         Training training2 = EntityTestData.getTransientTrainingDavidBrown();
@@ -141,16 +141,17 @@ class UserRepositoryTest extends AbstractTestRepository<UserRepository> {
     }
 
     @Test
-    @DisplayName("Test find all by username contains functionality")
-    void givenUser_whenGetNextSerialNumber_thenUserIsReturned() {
+    @DisplayName("Test exists by username functionality")
+    void givenUser_whenExistsByUsername_thenTrueIsReturned() {
         // given
         User expected = EntityTestData.getTransientUserJohnDoe();
         entityManager.persist(expected);
 
         // when
-        List<User> actual = repository.findAllByUsernameContains(expected.getUsername());
+        boolean actual = repository.existsByUsername(expected.getUsername());
 
         // then
-        assertThat(actual.size()).isEqualTo(1);
+        assertThat(actual).isTrue();
+        assertThat(repository.existsByUsername(expected.getUsername() + "1")).isFalse();
     }
 }
@@ -0,0 +1,27 @@
+package com.gym.crm.app.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class UsernameCounterRepositoryTest extends AbstractTestRepository<UsernameCounterRepository> {
+
+    @Test
+    @DisplayName("Test next serial starts at zero and increments functionality")
+    void givenBaseName_whenNextSerial_thenSerialIsIncremented() {
+        // given
+        String baseName = "Counter.Test";
+
+        // when
+        long first = repository.nextSerial(baseName);
+        long second = repository.nextSerial(baseName);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1L);
+        assertThat(repository.findById(baseName).orElseThrow().getLastSerial()).isEqualTo(1L);
+    }
+}
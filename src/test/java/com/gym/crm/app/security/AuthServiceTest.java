@@ -2,6 +2,7 @@ package com.gym.crm.app.security;
 
 import com.gym.crm.app.exception.AuthenticationException;
 import com.gym.crm.app.exception.EntityValidationException;
+import com.gym.crm.app.exception.PasswordHashingRejectedException;
 import com.gym.crm.app.rest.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,8 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
@@ -68,4 +71,22 @@ class AuthServiceTest {
         assertThat(INVALID_USERNAME_OR_PASSWORD).isEqualTo(exception.getMessage());
         assertThat(exception).hasRootCauseMessage(exceptionMessage);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test authenticate when password hashing is saturated functionality")
+    void givenSaturatedHashing_whenAuthenticate_thenRejectionIsPropagated() {
+        // given
+        String username = "username";
+        String password = "password";
+
+        given(authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password)))
+                .willThrow(new PasswordHashingRejectedException("Overloaded", ErrorCode.PASSWORD_HASHING_OVERLOADED.getCode(), Duration.ofSeconds(1)));
+
+        // when
+        PasswordHashingRejectedException exception = assertThrows(PasswordHashingRejectedException.class,
+                () -> authService.authenticate(username, password));
+
+        // then
+        assertThat(exception.getCode()).isEqualTo(ErrorCode.PASSWORD_HASHING_OVERLOADED.getCode());
+    }
+}
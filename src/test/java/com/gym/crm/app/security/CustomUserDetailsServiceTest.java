@@ -6,18 +6,23 @@ import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.rest.exception.ErrorCode;
 import com.gym.crm.app.service.UserService;
 import com.gym.crm.app.utils.EntityTestData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +31,9 @@ class CustomUserDetailsServiceTest {
     @Mock
     private UserService userService;
 
+    @Spy
+    private UserDetailsCache userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
     @InjectMocks
     private CustomUserDetailsService service;
 
@@ -47,6 +55,64 @@ class CustomUserDetailsServiceTest {
         verify(userService).findByUsername(username);
     }
 
+    @Test
+    @DisplayName("Test load user by username reads credentials every time functionality")
+    void givenLoadedUser_whenLoadUserByUsername_thenUserIsReloaded() {
+        // given
+        User user = EntityTestData.getPersistedUserJohnDoe();
+        String username = user.getUsername();
+
+        given(userService.findByUsername(username))
+                .willReturn(user);
+
+        // when
+        service.loadUserByUsername(username);
+        UserDetails actual = service.loadUserByUsername(username);
+
+        // then
+        assertThat(actual.getPassword()).isEqualTo(user.getPassword());
+        verify(userService, times(2)).findByUsername(username);
+    }
+
+    @Test
+    @DisplayName("Test load cached token user by username functionality")
+    void givenCachedUser_whenLoadTokenUserByUsername_thenUserIsLoadedOnceWithoutPassword() {
+        // given
+        User user = EntityTestData.getPersistedUserJohnDoe();
+        String username = user.getUsername();
+
+        given(userService.findByUsername(username))
+                .willReturn(user);
+
+        // when
+        service.loadTokenUserByUsername(username);
+        UserDetails actual = service.loadTokenUserByUsername(username);
+
+        // then
+        assertThat(actual.getUsername()).isEqualTo(username);
+        assertThat(actual.getPassword()).isNull();
+        verify(userService, times(1)).findByUsername(username);
+    }
+
+    @Test
+    @DisplayName("Test load invalidated token user by username functionality")
+    void givenInvalidatedUser_whenLoadTokenUserByUsername_thenUserIsReloaded() {
+        // given
+        User user = EntityTestData.getPersistedUserJohnDoe();
+        String username = user.getUsername();
+
+        given(userService.findByUsername(username))
+                .willReturn(user);
+
+        // when
+        service.loadTokenUserByUsername(username);
+        userDetailsCache.invalidate(username);
+        service.loadTokenUserByUsername(username);
+
+        // then
+        verify(userService, times(2)).findByUsername(username);
+    }
+
     @Test
     @DisplayName("Test load user by incorrect username functionality")
     void givenIncorrectUsername_whenLoadUserByUsername_thenReturnUser() {
@@ -107,4 +173,18 @@ class CustomUserDetailsServiceTest {
         verify(userService).findByUsername(username);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test update password functionality")
+    void givenUserAndNewPassword_whenUpdatePassword_thenUserIsUpdated() {
+        // given
+        User user = EntityTestData.getPersistedUserJohnDoe();
+        String newPassword = "$pbkdf2-sha256$100000$salt$hash";
+
+        // when
+        UserDetails actual = service.updatePassword(user, newPassword);
+
+        // then
+        assertThat(actual.getPassword()).isEqualTo(newPassword);
+        verify(userService).update((User) actual);
+    }
+}
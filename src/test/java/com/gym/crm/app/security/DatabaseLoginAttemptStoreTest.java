@@ -0,0 +1,128 @@
+package com.gym.crm.app.security;
+
+import com.gym.crm.app.repository.LoginAttemptRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseLoginAttemptStoreTest {
+
+    @Mock
+    private LoginAttemptRepository attemptRepository;
+
+    private DatabaseLoginAttemptStore attemptStore;
+
+    @BeforeEach
+    void setUp() {
+        attemptStore = new DatabaseLoginAttemptStore(
+                attemptRepository, new SimpleMeterRegistry(), Duration.ofMinutes(5), Duration.ofSeconds(5), 100);
+    }
+
+    @Test
+    @DisplayName("Test failure is counted by the shared table")
+    void givenFailure_whenRecordFailure_thenUpsertResultIsReturned() {
+        // given
+        given(attemptRepository.incrementFailures(eq("testUser"), any(), any(), any()))
+                .willReturn(3);
+
+        // when
+        long actual = attemptStore.recordFailure("testUser", System.currentTimeMillis());
+
+        // then
+        assertThat(actual).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test not blocked state is served from near cache")
+    void givenNotBlockedUser_whenIsBlockedTwice_thenTableIsQueriedOnce() {
+        // given
+        given(attemptRepository.findBlockedUntilByUsername("testUser"))
+                .willReturn(Optional.empty());
+
+        // when
+        boolean first = attemptStore.isBlocked("testUser", System.currentTimeMillis());
+        boolean second = attemptStore.isBlocked("testUser", System.currentTimeMillis());
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        then(attemptRepository).should(times(1)).findBlockedUntilByUsername("testUser");
+    }
+
+    @Test
+    @DisplayName("Test block recorded by another node is honoured")
+    void givenBlockInTable_whenIsBlocked_thenReturnsTrue() {
+        // given
+        given(attemptRepository.findBlockedUntilByUsername("testUser"))
+                .willReturn(Optional.of(LocalDateTime.now().plusMinutes(5)));
+
+        // when
+        boolean actual = attemptStore.isBlocked("testUser", System.currentTimeMillis());
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test local block overrides cached not blocked state")
+    void givenCachedNotBlocked_whenBlock_thenUserIsBlockedWithoutReload() {
+        // given
+        long now = System.currentTimeMillis();
+        given(attemptRepository.findBlockedUntilByUsername("testUser"))
+                .willReturn(Optional.empty());
+        attemptStore.isBlocked("testUser", now);
+
+        // when
+        attemptStore.block("testUser", now + 60_000);
+
+        // then
+        assertThat(attemptStore.isBlocked("testUser", now)).isTrue();
+        then(attemptRepository).should().block(eq("testUser"), any());
+        then(attemptRepository).should(times(1)).findBlockedUntilByUsername("testUser");
+    }
+
+    @Test
+    @DisplayName("Test reset removes the row and cached state")
+    void givenBlockedUser_whenReset_thenStateIsReloaded() {
+        // given
+        long now = System.currentTimeMillis();
+        attemptStore.block("testUser", now + 60_000);
+        given(attemptRepository.findBlockedUntilByUsername("testUser"))
+                .willReturn(Optional.empty());
+
+        // when
+        attemptStore.reset("testUser");
+
+        // then
+        assertThat(attemptStore.isBlocked("testUser", now)).isFalse();
+        then(attemptRepository).should().deleteById("testUser");
+    }
+
+    @Test
+    @DisplayName("Test expired rows are cleaned up")
+    void whenDeleteExpired_thenRepositoryIsCalled() {
+        // when
+        attemptStore.deleteExpired();
+
+        // then
+        then(attemptRepository).should().deleteExpired(any());
+        then(attemptRepository).should(never()).deleteById(any());
+    }
+}
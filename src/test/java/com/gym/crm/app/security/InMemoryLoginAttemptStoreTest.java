@@ -0,0 +1,70 @@
+package com.gym.crm.app.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryLoginAttemptStoreTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Test failures within window are accumulated")
+    void givenFailures_whenRecordFailure_thenCountIsReturned() {
+        // given
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(registry, Duration.ofMinutes(5), DataSize.ofMegabytes(1));
+        long now = System.currentTimeMillis();
+
+        // when
+        store.recordFailure("testUser", now);
+        long actual = store.recordFailure("testUser", now);
+
+        // then
+        assertThat(actual).isEqualTo(2);
+        assertThat(store.recordFailure("anotherUser", now)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test blocked user is reported until block expires")
+    void givenBlockedUser_whenIsBlocked_thenBlockedUntilExpiry() {
+        // given
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(registry, Duration.ofMinutes(5), DataSize.ofMegabytes(1));
+        long now = System.currentTimeMillis();
+
+        // when
+        store.block("testUser", now + 1_000);
+
+        // then
+        assertThat(store.isBlocked("testUser", now)).isTrue();
+        assertThat(store.isBlocked("testUser", now + 1_000)).isFalse();
+        assertThat(store.isBlocked("anotherUser", now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test attempts cache is bounded by memory ceiling")
+    void whenManyUsernamesFail_thenCacheIsBoundedAndEvictionsAreRecorded() throws InterruptedException {
+        // given
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(registry, Duration.ofMinutes(5), DataSize.ofKilobytes(64));
+        long now = System.currentTimeMillis();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            store.recordFailure("user" + i, now);
+        }
+
+        // then
+        FunctionCounter evictions = registry.get("cache.evictions").tag("cache", "loginAttempts").functionCounter();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (evictions.count() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(evictions.count()).isPositive();
+    }
+}
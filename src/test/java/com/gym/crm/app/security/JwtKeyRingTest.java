@@ -0,0 +1,223 @@
+package com.gym.crm.app.security;
+
+import com.gym.crm.app.entity.JwtSigningKey;
+import com.gym.crm.app.repository.JwtSigningKeyRepository;
+import com.gym.crm.app.security.JwtKeyRingProperties.ConfiguredKey;
+import com.gym.crm.app.service.common.CryptoPrimitives;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class JwtKeyRingTest {
+
+    private final CryptoPrimitives cryptoPrimitives = new CryptoPrimitives();
+
+    @Mock
+    private JwtSigningKeyRepository signingKeyRepository;
+
+    static JwtKeyRing configuredKeyRing() {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setSource(JwtKeyRingProperties.Source.CONFIG);
+
+        JwtKeyRing keyRing = new JwtKeyRing(null, properties, new CryptoPrimitives());
+        keyRing.init();
+
+        return keyRing;
+    }
+
+    @Test
+    @DisplayName("Test configured keys verify tokens signed by any kid")
+    void givenConfiguredKeys_whenParse_thenKeyIsLocatedByKid() {
+        // given
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setSource(JwtKeyRingProperties.Source.CONFIG);
+        properties.setKeys(List.of(configuredKey("old"), configuredKey("new")));
+        properties.setActiveKid("new");
+
+        JwtKeyRing keyRing = new JwtKeyRing(signingKeyRepository, properties, cryptoPrimitives);
+        keyRing.init();
+
+        SecretKey oldKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getKeys().get(0).getSecret()));
+        String oldToken = Jwts.builder().header().keyId("old").and().subject("test").signWith(oldKey).compact();
+
+        // when
+        String subject = Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(oldToken).getPayload().getSubject();
+
+        // then
+        assertThat(subject).isEqualTo("test");
+        assertThat(keyRing.signingKey().kid()).isEqualTo("new");
+        assertThat(keyRing.size()).isEqualTo(2);
+        then(signingKeyRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Test token with unknown kid is rejected")
+    void givenUnknownKid_whenParse_thenExceptionThrown() {
+        // given
+        JwtKeyRing keyRing = configuredKeyRing();
+        SecretKey foreignKey = Keys.hmacShaKeyFor(cryptoPrimitives.randomBytes(32));
+        String token = Jwts.builder().header().keyId("foreign").and().subject("test").signWith(foreignKey).compact();
+
+        // when & then
+        assertThatThrownBy(() -> Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("Test missing active kid fails fast")
+    void givenUnknownActiveKid_whenInit_thenExceptionThrown() {
+        // given
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setSource(JwtKeyRingProperties.Source.CONFIG);
+        properties.setKeys(List.of(configuredKey("current")));
+        properties.setActiveKid("missing");
+
+        JwtKeyRing keyRing = new JwtKeyRing(signingKeyRepository, properties, cryptoPrimitives);
+
+        // when & then
+        assertThatThrownBy(keyRing::init)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Test empty database ring publishes an immediately active key")
+    void givenEmptyTable_whenInit_thenKeyIsPublished() {
+        // given
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        JwtSigningKey published = signingKey("k1", LocalDateTime.now().minusSeconds(1));
+
+        given(signingKeyRepository.findAllUsable(any()))
+                .willReturn(List.of())
+                .willReturn(List.of(published));
+        given(signingKeyRepository.insertIfAbsent(anyString(), anyString(), any()))
+                .willReturn(1);
+
+        JwtKeyRing keyRing = new JwtKeyRing(signingKeyRepository, properties, cryptoPrimitives);
+        ReflectionTestUtils.setField(keyRing, "accessTokenDuration", Duration.ofMinutes(15));
+
+        // when
+        keyRing.init();
+
+        // then
+        assertThat(keyRing.signingKey().kid()).isEqualTo("k1");
+        then(signingKeyRepository).should().insertIfAbsent(anyString(), anyString(), any());
+        then(signingKeyRepository).should().retireAllExcept(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Test pending key verifies but is not used for signing")
+    void givenPendingKey_whenRefresh_thenPreviousKeyKeepsSigning() {
+        // given
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        JwtSigningKey current = signingKey("k1", LocalDateTime.now().minusDays(1));
+        JwtSigningKey pending = signingKey("k2", LocalDateTime.now().plusMinutes(1));
+
+        given(signingKeyRepository.findAllUsable(any()))
+                .willReturn(List.of(current, pending));
+        given(signingKeyRepository.insertIfAbsent(anyString(), anyString(), any()))
+                .willReturn(0);
+
+        JwtKeyRing keyRing = new JwtKeyRing(signingKeyRepository, properties, cryptoPrimitives);
+
+        // when
+        keyRing.refresh();
+
+        // then
+        assertThat(keyRing.signingKey().kid()).isEqualTo("k1");
+        assertThat(keyRing.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test rotated key activates after two refresh intervals")
+    void givenPreviousPeriodKey_whenRefresh_thenNewKeyActivatesAfterTwoRefreshIntervals() {
+        // given
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        JwtSigningKey previous = signingKey("k0", LocalDateTime.now().minusDays(7));
+        LocalDateTime earliestActivation = LocalDateTime.now().plus(properties.getRefreshInterval().multipliedBy(2));
+
+        given(signingKeyRepository.findAllUsable(any()))
+                .willReturn(List.of(previous));
+        given(signingKeyRepository.insertIfAbsent(anyString(), anyString(), any()))
+                .willReturn(1);
+
+        JwtKeyRing keyRing = new JwtKeyRing(signingKeyRepository, properties, cryptoPrimitives);
+
+        // when
+        keyRing.refresh();
+
+        // then
+        ArgumentCaptor<LocalDateTime> activatesAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(signingKeyRepository).should().insertIfAbsent(anyString(), anyString(), activatesAt.capture());
+        assertThat(activatesAt.getValue()).isAfterOrEqualTo(earliestActivation);
+        assertThat(keyRing.signingKey().kid()).isEqualTo("k0");
+    }
+
+    @Test
+    @DisplayName("Test overlap shorter than access token duration fails fast")
+    void givenShortOverlap_whenInit_thenExceptionThrown() {
+        // given
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setOverlap(Duration.ofMinutes(5));
+        JwtKeyRing keyRing = new JwtKeyRing(signingKeyRepository, properties, cryptoPrimitives);
+        ReflectionTestUtils.setField(keyRing, "accessTokenDuration", Duration.ofMinutes(15));
+
+        // when, then
+        assertThatThrownBy(keyRing::init)
+                .isInstanceOf(IllegalStateException.class);
+        then(signingKeyRepository).should(never()).findAllUsable(any());
+    }
+
+    @Test
+    @DisplayName("Test refresh does not touch the table for configured keys")
+    void givenConfigSource_whenRefresh_thenRepositoryIsNotCalled() {
+        // given
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setSource(JwtKeyRingProperties.Source.CONFIG);
+        JwtKeyRing keyRing = new JwtKeyRing(signingKeyRepository, properties, cryptoPrimitives);
+
+        // when
+        keyRing.refresh();
+
+        // then
+        then(signingKeyRepository).should(never()).findAllUsable(any());
+    }
+
+    private ConfiguredKey configuredKey(String kid) {
+        ConfiguredKey key = new ConfiguredKey();
+        key.setKid(kid);
+        key.setSecret(Encoders.BASE64.encode(cryptoPrimitives.randomBytes(32)));
+
+        return key;
+    }
+
+    private JwtSigningKey signingKey(String kid, LocalDateTime activatesAt) {
+        return JwtSigningKey.builder()
+                .kid(kid)
+                .secret(Encoders.BASE64.encode(cryptoPrimitives.randomBytes(32)))
+                .activatesAt(activatesAt)
+                .build();
+    }
+}
@@ -1,28 +1,58 @@
 package com.gym.crm.app.security;
 
+import com.gym.crm.app.entity.JwtBlackToken;
+import com.gym.crm.app.entity.Role;
+import com.gym.crm.app.entity.User;
 import com.gym.crm.app.repository.JwtBlackTokenRepository;
+import com.gym.crm.app.service.UserService;
+import com.gym.crm.app.utils.EntityTestData;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class JwtServiceTest {
     private final Duration duration = Duration.ofHours(1);
 
+    @Spy
+    private JwtKeyRing keyRing = JwtKeyRingTest.configuredKeyRing();
+
     @Mock
     private JwtBlackTokenRepository blackTokenRepository;
 
+    @Mock
+    private TokenRevocationIndex revocationIndex;
+
+    @Mock
+    private TokenRevocationTransport revocationTransport;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private UserService userService;
+
     @InjectMocks
     private JwtService jwtService;
 
@@ -35,24 +65,103 @@ class JwtServiceTest {
 
         // when
         String actual = jwtService.generateToken(username);
-        String extractedUsername = jwtService.extractUsername(actual);
+        Claims claims = jwtService.verify(actual);
 
         // then
         assertThat(actual).isNotNull();
-        assertThat(extractedUsername).isEqualTo(username);
-        assertThat(jwtService.isValid(actual, username)).isTrue();
+        assertThat(claims.getSubject()).isEqualTo(username);
+        assertThat(jwtService.isValid(actual, claims)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test generate stateless token functionality")
+    void givenStatelessMode_whenGenerateToken_thenUserClaimsAreIncluded() {
+        // given
+        Role role = new Role();
+        role.setRole("ROLE_USER");
+        User user = EntityTestData.getPersistedUserJohnDoe().toBuilder().roles(Set.of(role)).build();
+
+        ReflectionTestUtils.setField(jwtService, "duration", duration);
+        ReflectionTestUtils.setField(jwtService, "statelessEnabled", true);
+
+        given(userService.findByUsername(user.getUsername()))
+                .willReturn(user);
+
+        // when
+        String token = jwtService.generateToken(user.getUsername());
+        Claims claims = jwtService.verify(token);
+        User actual = jwtService.extractUser(claims, false);
+
+        // then
+        assertThat(jwtService.isStateless(claims)).isTrue();
+        assertThat(actual.getId()).isEqualTo(user.getId());
+        assertThat(actual.getUsername()).isEqualTo(user.getUsername());
+        assertThat(actual.isActive()).isFalse();
+        assertThat(actual.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("Test token without user claims is not stateless functionality")
+    void givenStatefulToken_whenIsStateless_thenReturnsFalse() {
+        // given
+        ReflectionTestUtils.setField(jwtService, "duration", duration);
+        String token = jwtService.generateToken("test");
+        ReflectionTestUtils.setField(jwtService, "statelessEnabled", true);
+
+        // when
+        boolean actual = jwtService.isStateless(jwtService.verify(token));
+
+        // then
+        assertThat(actual).isFalse();
     }
 
     @Test
-    @DisplayName("Test extract username functionality")
-    void givenUsername_extractUsername_thenCorrectUsernameShouldBeReturned() {
+    @DisplayName("Test verify caches parsed claims functionality")
+    void givenToken_whenVerify_thenClaimsAreCached() {
         // given
         String username = "test";
         ReflectionTestUtils.setField(jwtService, "duration", duration);
         String token = jwtService.generateToken(username);
 
         // when
-        String actual = jwtService.extractUsername(token);
+        Claims claims = jwtService.verify(token);
+
+        // then
+        assertThat(claims.getSubject()).isEqualTo(username);
+        verify(verifiedTokenCache).put(token, claims);
+    }
+
+    @Test
+    @DisplayName("Test verify returns cached claims functionality")
+    void givenCachedToken_whenVerify_thenCachedClaimsReturned() {
+        // given
+        String token = "not.a.jwt";
+        Claims cachedClaims = Jwts.claims()
+                .subject("test")
+                .expiration(new Date(System.currentTimeMillis() + duration.toMillis()))
+                .build();
+
+        given(verifiedTokenCache.get(token))
+                .willReturn(cachedClaims);
+
+        // when
+        Claims actual = jwtService.verify(token);
+
+        // then
+        assertThat(actual).isSameAs(cachedClaims);
+        verify(verifiedTokenCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Test verify token subject functionality")
+    void givenUsername_whenVerify_thenSubjectIsUsername() {
+        // given
+        String username = "test";
+        ReflectionTestUtils.setField(jwtService, "duration", duration);
+        String token = jwtService.generateToken(username);
+
+        // when
+        String actual = jwtService.verify(token).getSubject();
 
         // then
         assertThat(actual).isEqualTo(username);
@@ -60,32 +169,50 @@ class JwtServiceTest {
 
     @Test
     @DisplayName("Test expired token functionality")
-    void givenExpiredToken_whenIsValid_thenTokenIsExpired() throws Exception {
+    void givenExpiredToken_whenVerify_thenExpiredJwtExceptionIsThrown() throws Exception {
         // given
         String username = "test";
         ReflectionTestUtils.setField(jwtService, "duration", Duration.ofMillis(1));
 
-        given(blackTokenRepository.existsByToken(any()))
-                .willReturn(false);
-
-        // when & then
+        // when
         String token = jwtService.generateToken(username);
         Thread.sleep(100);
-        Boolean actual = jwtService.isValid(token, username);
 
+        // then
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(token));
+    }
+
+    @Test
+    @DisplayName("Test is valid token with expired claims functionality")
+    void givenExpiredClaims_whenIsValid_thenTokenIsInvalid() {
+        // given
+        Claims claims = Jwts.claims()
+                .expiration(new Date(System.currentTimeMillis() - 1_000))
+                .build();
+
+        given(revocationIndex.isRevoked("token"))
+                .willReturn(false);
+
+        // when
+        boolean actual = jwtService.isValid("token", claims);
+
+        // then
         assertThat(actual).isFalse();
     }
 
     @Test
-    @DisplayName("Test is valid token by invalid username functionality")
-    void givenToken_whenIsValid_thenTokenIsInvalid() {
+    @DisplayName("Test is valid revoked token functionality")
+    void givenRevokedToken_whenIsValid_thenTokenIsInvalid() {
         // given
-        String username = "test";
         ReflectionTestUtils.setField(jwtService, "duration", duration);
+        String token = jwtService.generateToken("test");
+        Claims claims = jwtService.verify(token);
+
+        given(revocationIndex.isRevoked(token))
+                .willReturn(true);
 
         // when
-        String token = jwtService.generateToken(username);
-        Boolean actual = jwtService.isValid(token, "another username");
+        boolean actual = jwtService.isValid(token, claims);
 
         // then
         assertThat(actual).isFalse();
@@ -135,7 +262,7 @@ class JwtServiceTest {
     void givenBlacklistedToken_whenIsTokenBlacklisted_thenReturnsTrue() {
         // given
         String token = "blacklistedToken";
-        given(blackTokenRepository.existsByToken(token)).willReturn(true);
+        given(revocationIndex.isRevoked(token)).willReturn(true);
 
         // when
         boolean isBlacklisted = jwtService.isTokenBlacklisted(token);
@@ -149,7 +276,7 @@ class JwtServiceTest {
     void givenNonBlacklistedToken_whenIsTokenBlacklisted_thenReturnsFalse() {
         // given
         String token = "nonBlacklistedToken";
-        given(blackTokenRepository.existsByToken(token)).willReturn(false);
+        given(revocationIndex.isRevoked(token)).willReturn(false);
 
         // when
         boolean isBlacklisted = jwtService.isTokenBlacklisted(token);
@@ -159,12 +286,65 @@ class JwtServiceTest {
     }
 
     @Test
-    @DisplayName("Test removing expired tokens functionality")
-    void whenRemoveExpiredTokens_thenDeleteExpiredTokensCalled() {
+    @DisplayName("Test evicting expired tokens functionality")
+    void whenEvictExpiredTokens_thenIndexIsEvictedWithoutTableDelete() {
+        // when
+        jwtService.evictExpiredTokens();
+
+        // then
+        verify(revocationIndex).evictExpired(any());
+        verify(blackTokenRepository, never()).deleteExpiredBatch(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Test add token to black list functionality")
+    void givenToken_whenAddTokenToBlackList_thenTokenSavedAndIndexed() {
+        // given
+        ReflectionTestUtils.setField(jwtService, "duration", duration);
+        String token = jwtService.generateToken("test");
+
+        given(blackTokenRepository.save(any()))
+                .willAnswer(invocation -> {
+                    JwtBlackToken blackToken = invocation.getArgument(0);
+                    blackToken.setId(1L);
+                    return blackToken;
+                });
+
+        // when
+        jwtService.addTokenToBlackList(token);
+
+        // then
+        verify(blackTokenRepository).save(any());
+        verify(revocationIndex).add(eq(token), any());
+        verify(revocationTransport).publish(1L);
+    }
+
+    @Test
+    @DisplayName("Test token carries signing key id functionality")
+    void givenUsername_whenGenerateToken_thenKeyIdHeaderIsSet() {
+        // given
+        ReflectionTestUtils.setField(jwtService, "duration", duration);
+
+        // when
+        String token = jwtService.generateToken("test");
+        String actual = Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token).getHeader().getKeyId();
+
+        // then
+        assertThat(actual).isEqualTo(keyRing.signingKey().kid());
+    }
+
+    @Test
+    @DisplayName("Test tokens issued together are distinct functionality")
+    void givenSameUsername_whenGenerateTokenTwice_thenTokensDiffer() {
+        // given
+        ReflectionTestUtils.setField(jwtService, "duration", duration);
+
         // when
-        jwtService.removeExpiredTokens();
+        String first = jwtService.generateToken("test");
+        String second = jwtService.generateToken("test");
 
         // then
-        verify(blackTokenRepository).deleteByExpiryDateBefore(any());
+        assertThat(first).isNotEqualTo(second);
+        assertThat(jwtService.verify(first).getId()).isNotEqualTo(jwtService.verify(second).getId());
     }
-}
\ No newline at end of file
+}
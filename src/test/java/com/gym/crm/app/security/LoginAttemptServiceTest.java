@@ -4,17 +4,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(MockitoExtension.class)
 class LoginAttemptServiceTest {
 
+    @Spy
+    private LoginAttemptStore attemptStore =
+            new InMemoryLoginAttemptStore(new SimpleMeterRegistry(), Duration.ofMinutes(5), DataSize.ofMegabytes(1));
+
     @InjectMocks
     private LoginAttemptService loginAttemptService;
 
@@ -105,4 +116,34 @@ class LoginAttemptServiceTest {
         // then
         assertThat(actual).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test concurrent login failures are all counted")
+    void whenLoginFailedConcurrently_thenNoAttemptIsLost() throws InterruptedException {
+        // given
+        String username = "testUser";
+        int threads = 8;
+        ReflectionTestUtils.setField(loginAttemptService, "maxAttempts", threads * 100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    loginAttemptService.loginFailed(username);
+                }
+                return null;
+            });
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(loginAttemptService.isBlocked(username)).isTrue();
+    }
+}
@@ -0,0 +1,59 @@
+package com.gym.crm.app.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresTokenRevocationTransportTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TokenRevocationListener listener;
+
+    private PostgresTokenRevocationTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        transport = new PostgresTokenRevocationTransport(dataSource, jdbcTemplate, "token_revocations",
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        transport.subscribe(listener);
+    }
+
+    @Test
+    @DisplayName("Test numeric notification is dispatched to listeners")
+    void givenNumericPayload_whenDispatch_thenListenerIsNotified() {
+        // when
+        ReflectionTestUtils.invokeMethod(transport, "dispatch", "7");
+
+        // then
+        then(listener).should().onRevoked(7L);
+    }
+
+    @Test
+    @DisplayName("Test malformed notification is ignored")
+    void givenMalformedPayload_whenDispatch_thenListenerIsNotNotified() {
+        // when
+        ReflectionTestUtils.invokeMethod(transport, "dispatch", "not-a-number");
+
+        // then
+        then(listener).should(never()).onRevoked(anyLong());
+    }
+}
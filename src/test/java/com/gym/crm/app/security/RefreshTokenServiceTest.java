@@ -1,31 +1,29 @@
 package com.gym.crm.app.security;
 
-import com.gym.crm.app.entity.RefreshToken;
-import com.gym.crm.app.entity.User;
 import com.gym.crm.app.exception.RefreshTokenException;
 import com.gym.crm.app.repository.RefreshTokenRepository;
 import com.gym.crm.app.rest.exception.ErrorCode;
-import com.gym.crm.app.service.UserService;
-import com.gym.crm.app.utils.EntityTestData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.stubbing.Answer;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
 import java.util.Optional;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class RefreshTokenServiceTest {
@@ -33,103 +31,99 @@ class RefreshTokenServiceTest {
     @Mock
     private RefreshTokenRepository repository;
 
-    @Mock
-    private UserService userService;
-
     @InjectMocks
     private RefreshTokenService refreshTokenService;
 
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(refreshTokenService, "duration", Duration.ofHours(1));
+        ReflectionTestUtils.setField(refreshTokenService, "legacyRead", true);
     }
 
     @Test
     @DisplayName("Test generate token by valid username functionality")
-    void givenValidUsername_whenGenerateToken_thenGenerateToken() {
+    void givenValidUsername_whenGenerateToken_thenSingleUpsertIsIssued() {
         // given
-        User user = EntityTestData.getPersistedUserJohnDoe();
-
-        given(userService.findByUsername(user.getUsername()))
-                .willReturn(user);
-        given(repository.findTokenIdByUserUsername(user.getUsername()))
-                .willReturn(1L);
-        given(repository.save(any(RefreshToken.class)))
-                .willAnswer((Answer<RefreshToken>) invocation -> {
-                    RefreshToken refreshToken = invocation.getArgument(0);
-                    refreshToken.setToken(UUID.randomUUID().toString());
-                    return refreshToken;
-                });
+        String username = "John.Doe";
+        ArgumentCaptor<byte[]> digestCaptor = ArgumentCaptor.forClass(byte[].class);
+
+        given(repository.upsertByUsername(eq(username), digestCaptor.capture(), any(), any()))
+                .willReturn(Optional.of(1L));
 
         // when
-        String actual = refreshTokenService.generateToken(user.getUsername());
+        String actual = refreshTokenService.generateToken(username);
 
         // then
         assertThat(actual).isNotNull();
+        assertThat(digestCaptor.getValue()).isEqualTo(TokenDigestUtil.digest(actual));
 
-        verify(userService).findByUsername(user.getUsername());
-        verify(repository).findTokenIdByUserUsername(user.getUsername());
-        verify(repository).save(any(RefreshToken.class));
+        verify(repository).upsertByUsername(eq(username), any(), any(), any());
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    @DisplayName("Test find by valid token functionality")
-    void givenValidToken_whenFindByToken_thenFindByToken() {
+    @DisplayName("Test generate token by unknown username functionality")
+    void givenUnknownUsername_whenGenerateToken_thenExceptionThrown() {
         // given
-        RefreshToken refreshToken = EntityTestData.getTransientValidRefreshToken();
-
-        given(repository.findByToken(refreshToken.getToken()))
-                .willReturn(Optional.of(refreshToken));
+        given(repository.upsertByUsername(eq("unknown"), any(), any(), any()))
+                .willReturn(Optional.empty());
 
         // when
-        RefreshToken actual = refreshTokenService.findByToken(refreshToken.getToken());
+        RefreshTokenException ex = assertThrows(RefreshTokenException.class,
+                () -> refreshTokenService.generateToken("unknown"));
 
         // then
-        assertThat(actual).isNotNull();
-        assertThat(actual).isEqualTo(refreshToken);
-
-        verify(repository).findByToken(refreshToken.getToken());
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.USER_WITH_USERNAME_NOT_FOUND.getCode());
     }
 
     @Test
-    @DisplayName("Test find by invalid token functionality")
-    void givenInvalidToken_whenFindByToken_thenFindByToken() {
+    @DisplayName("Test rotate by valid token functionality")
+    void givenValidToken_whenRotate_thenSingleStatementReturnsNewToken() {
         // given
-        RefreshToken refreshToken = EntityTestData.getTransientValidRefreshToken();
+        String token = "token";
+        ArgumentCaptor<byte[]> newDigestCaptor = ArgumentCaptor.forClass(byte[].class);
 
-        given(repository.findByToken(refreshToken.getToken()))
-                .willReturn(Optional.empty());
+        given(repository.rotate(eq(TokenDigestUtil.digest(token)), eq(token), eq(true),
+                newDigestCaptor.capture(), any(), any()))
+                .willReturn(Optional.of("John.Doe"));
 
         // when
-        RefreshTokenException ex = assertThrows(RefreshTokenException.class, () -> {
-            refreshTokenService.findByToken(refreshToken.getToken());
-        });
+        RefreshTokenService.RotatedToken actual = refreshTokenService.rotate(token);
 
         // then
-        assertThat(ex.getMessage()).isEqualTo("Refresh token not found");
-        assertThat(ex.getCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_NOT_FOUND.getCode());
+        assertThat(actual.username()).isEqualTo("John.Doe");
+        assertThat(actual.token()).isNotEqualTo(token);
+        assertThat(newDigestCaptor.getValue()).isEqualTo(TokenDigestUtil.digest(actual.token()));
 
-        verify(repository).findByToken(refreshToken.getToken());
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
-    @DisplayName("Test find username by token functionality")
-    void givenValidToken_whenFindByUsernameByToken_thenUsernameFound() {
+    @DisplayName("Test rotate by invalid token functionality")
+    void givenInvalidToken_whenRotate_thenExceptionThrown() {
         // given
-        RefreshToken refreshToken = EntityTestData.getTransientValidRefreshToken();
-        String username = EntityTestData.getPersistedUserJohnDoe().getUsername();
-
-        given(repository.findUsernameByToken(refreshToken.getToken()))
-                .willReturn(username);
+        given(repository.rotate(any(), eq("invalid_token"), eq(true), any(), any(), any()))
+                .willReturn(Optional.empty());
 
         // when
-        String actual = refreshTokenService.findUsernameByToken(refreshToken.getToken());
+        RefreshTokenException ex = assertThrows(RefreshTokenException.class,
+                () -> refreshTokenService.rotate("invalid_token"));
 
         // then
-        assertThat(actual).isNotNull();
-        assertThat(actual).isEqualTo(username);
+        assertThat(ex.getMessage()).isEqualTo("Invalid Refresh Token");
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN.getCode());
+    }
 
-        verify(repository).findUsernameByToken(refreshToken.getToken());
+    @Test
+    @DisplayName("Test rotate by null token functionality")
+    void givenNullToken_whenRotate_thenExceptionThrownWithoutQuery() {
+        // when
+        RefreshTokenException ex = assertThrows(RefreshTokenException.class,
+                () -> refreshTokenService.rotate(null));
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN.getCode());
+        verifyNoInteractions(repository);
     }
 
     @Test
@@ -142,7 +136,17 @@ class RefreshTokenServiceTest {
         refreshTokenService.deleteByToken(token);
 
         // then
-        verify(repository).deleteByToken(token);
+        verify(repository).deleteByTokenDigest(TokenDigestUtil.digest(token), token, true);
+        verifyNoMoreInteractions(repository);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test delete by null token functionality")
+    void givenNullToken_whenDeleteByToken_thenNothingIsDeleted() {
+        // when
+        refreshTokenService.deleteByToken(null);
+
+        // then
+        verifyNoInteractions(repository);
+    }
+}
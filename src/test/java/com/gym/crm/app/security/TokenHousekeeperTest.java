@@ -0,0 +1,112 @@
+package com.gym.crm.app.security;
+
+import com.gym.crm.app.repository.JwtBlackTokenRepository;
+import com.gym.crm.app.repository.RefreshTokenRepository;
+import com.gym.crm.app.service.common.AdvisoryLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TokenHousekeeperTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Mock
+    private JwtBlackTokenRepository blackTokenRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private AdvisoryLockService advisoryLockService;
+
+    private TokenHousekeeper housekeeper;
+
+    @BeforeEach
+    void setUp() {
+        housekeeper = new TokenHousekeeper(
+                blackTokenRepository, refreshTokenRepository, advisoryLockService, registry, 100, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Test leader deletes expired rows in batches from both tables")
+    void givenLockAcquired_whenSweep_thenBothTablesAreSweptInBatches() {
+        // given
+        given(advisoryLockService.runExclusively(anyLong(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                });
+        given(blackTokenRepository.deleteExpiredBatch(any(), eq(100)))
+                .willReturn(100, 100, 42);
+        given(refreshTokenRepository.deleteExpiredBatch(any(), eq(100)))
+                .willReturn(7);
+
+        // when
+        housekeeper.sweep();
+
+        // then
+        then(blackTokenRepository).should(times(3)).deleteExpiredBatch(any(), eq(100));
+        then(refreshTokenRepository).should(times(1)).deleteExpiredBatch(any(), eq(100));
+
+        assertThat(registry.get("token_sweep_deleted_total").tag("table", "jwt_black_list").counter().count())
+                .isEqualTo(242);
+        assertThat(registry.get("token_sweep_deleted_total").tag("table", "refresh_token").counter().count())
+                .isEqualTo(7);
+        assertThat(registry.get("token_sweep_duration_seconds").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test sweep is skipped when another node holds the lock")
+    void givenLockHeldElsewhere_whenSweep_thenNothingIsDeleted() {
+        // given
+        given(advisoryLockService.runExclusively(anyLong(), any()))
+                .willReturn(false);
+
+        // when
+        housekeeper.sweep();
+
+        // then
+        then(blackTokenRepository).should(times(0)).deleteExpiredBatch(any(), anyInt());
+        then(refreshTokenRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Test stopped housekeeper does not continue batching")
+    void givenStopped_whenSweep_thenOnlyOneBatchPerTable() {
+        // given
+        given(advisoryLockService.runExclusively(anyLong(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                });
+        given(blackTokenRepository.deleteExpiredBatch(any(), eq(100)))
+                .willReturn(100);
+        given(refreshTokenRepository.deleteExpiredBatch(any(), eq(100)))
+                .willReturn(100);
+        housekeeper.stop();
+
+        // when
+        housekeeper.sweep();
+
+        // then
+        then(blackTokenRepository).should(times(1)).deleteExpiredBatch(any(), eq(100));
+        then(refreshTokenRepository).should(times(1)).deleteExpiredBatch(any(), eq(100));
+    }
+}
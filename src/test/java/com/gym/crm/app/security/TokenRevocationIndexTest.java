@@ -0,0 +1,128 @@
+package com.gym.crm.app.security;
+
+import com.gym.crm.app.entity.JwtBlackToken;
+import com.gym.crm.app.repository.JwtBlackTokenRepository;
+import com.gym.crm.app.utils.EntityTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationIndexTest {
+
+    @Mock
+    private JwtBlackTokenRepository blackTokenRepository;
+
+    @InjectMocks
+    private TokenRevocationIndex revocationIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(revocationIndex, "expectedTokens", 1000);
+        ReflectionTestUtils.setField(revocationIndex, "falsePositiveRate", 0.01);
+    }
+
+    @Test
+    @DisplayName("Test index is seeded from black list table")
+    void givenStoredTokens_whenInit_thenTokensAreRevoked() {
+        // given
+        JwtBlackToken token = EntityTestData.getValidJwtBlackToken();
+
+        given(blackTokenRepository.findAllByExpiryDateAfter(any()))
+                .willReturn(List.of(token));
+
+        // when
+        revocationIndex.init();
+
+        // then
+        assertThat(revocationIndex.isRevoked(token.getToken())).isTrue();
+        assertThat(revocationIndex.isRevoked("another_token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test added token is revoked")
+    void givenToken_whenAdd_thenTokenIsRevoked() {
+        // given
+        given(blackTokenRepository.findAllByExpiryDateAfter(any()))
+                .willReturn(List.of());
+        revocationIndex.init();
+
+        // when
+        revocationIndex.add("token", LocalDateTime.now().plusHours(1));
+
+        // then
+        assertThat(revocationIndex.isRevoked("token")).isTrue();
+        assertThat(revocationIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test expired tokens are evicted")
+    void givenExpiredToken_whenEvictExpired_thenTokenIsRemoved() {
+        // given
+        given(blackTokenRepository.findAllByExpiryDateAfter(any()))
+                .willReturn(List.of());
+        revocationIndex.init();
+
+        revocationIndex.add("expired_token", LocalDateTime.now().minusMinutes(1));
+        revocationIndex.add("valid_token", LocalDateTime.now().plusHours(1));
+
+        // when
+        revocationIndex.evictExpired(LocalDateTime.now());
+
+        // then
+        assertThat(revocationIndex.isRevoked("expired_token")).isFalse();
+        assertThat(revocationIndex.isRevoked("valid_token")).isTrue();
+        assertThat(revocationIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test applying the same token twice keeps one entry")
+    void givenAppliedToken_whenApplyAgain_thenIndexIsUnchanged() {
+        // given
+        JwtBlackToken seeded = EntityTestData.getValidJwtBlackToken();
+        given(blackTokenRepository.findAllByExpiryDateAfter(any()))
+                .willReturn(List.of(seeded));
+        revocationIndex.init();
+
+        // when
+        revocationIndex.apply(seeded);
+
+        // then
+        assertThat(revocationIndex.isRevoked(seeded.getToken())).isTrue();
+        assertThat(revocationIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test token stored as digest is revoked")
+    void givenDigestOnlyToken_whenApply_thenTokenIsRevoked() {
+        // given
+        given(blackTokenRepository.findAllByExpiryDateAfter(any()))
+                .willReturn(List.of());
+        revocationIndex.init();
+
+        JwtBlackToken digested = JwtBlackToken.builder()
+                .id(1L)
+                .tokenDigest(TokenDigestUtil.digest("digested_token"))
+                .expiryDate(LocalDateTime.now().plusHours(1))
+                .build();
+
+        // when
+        revocationIndex.apply(digested);
+
+        // then
+        assertThat(revocationIndex.isRevoked("digested_token")).isTrue();
+        assertThat(revocationIndex.isRevoked("token")).isFalse();
+    }
+}
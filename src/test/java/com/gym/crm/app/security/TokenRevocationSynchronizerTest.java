@@ -0,0 +1,126 @@
+package com.gym.crm.app.security;
+
+import com.gym.crm.app.entity.JwtBlackToken;
+import com.gym.crm.app.repository.JwtBlackTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationSynchronizerTest {
+
+    @Mock
+    private JwtBlackTokenRepository blackTokenRepository;
+
+    private final InProcessTokenRevocationTransport transport = new InProcessTokenRevocationTransport();
+
+    private TokenRevocationIndex nodeA;
+    private TokenRevocationIndex nodeB;
+
+    @BeforeEach
+    void setUp() {
+        given(blackTokenRepository.findAllByExpiryDateAfter(any()))
+                .willReturn(List.of());
+
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @Test
+    @DisplayName("Test revocation published on one node is applied on another")
+    void givenRevocationOnNodeA_whenPublished_thenNodeBRevokesToken() {
+        // given
+        JwtBlackToken token = blackToken(7L, "token", LocalDateTime.now().plusHours(1));
+        given(blackTokenRepository.findById(7L))
+                .willReturn(Optional.of(token));
+
+        // when
+        nodeA.add(token.getToken(), token.getExpiryDate());
+        transport.publish(7L);
+
+        // then
+        assertThat(nodeB.isRevoked("token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test resync applies revocations committed out of id order")
+    void givenRevocationCommittedBelowSeenId_whenResync_thenTokenIsApplied() {
+        // given
+        TokenRevocationSynchronizer synchronizer =
+                new TokenRevocationSynchronizer(blackTokenRepository, nodeB, transport);
+        JwtBlackToken seen = blackToken(5L, "seen_token", LocalDateTime.now().plusHours(1));
+        nodeB.apply(seen);
+
+        given(blackTokenRepository.findAllByExpiryDateAfter(any()))
+                .willReturn(List.of(
+                        blackToken(4L, "missed_token", LocalDateTime.now().plusHours(1)),
+                        seen));
+
+        // when
+        synchronizer.onResync();
+
+        // then
+        assertThat(nodeB.isRevoked("missed_token")).isTrue();
+        assertThat(nodeB.isRevoked("seen_token")).isTrue();
+        assertThat(nodeB.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test unknown revocation id is ignored")
+    void givenMissingRow_whenOnRevoked_thenIndexIsUnchanged() {
+        // given
+        given(blackTokenRepository.findById(42L))
+                .willReturn(Optional.empty());
+
+        // when
+        transport.publish(42L);
+
+        // then
+        assertThat(nodeB.size()).isZero();
+        then(blackTokenRepository).should(times(2)).findById(42L);
+    }
+
+    @Test
+    @DisplayName("Test start subscribes without reloading the seeded index")
+    void givenSeededIndex_whenStart_thenUnexpiredTokensAreNotReloaded() {
+        // when
+        TokenRevocationIndex node = startNode();
+
+        // then
+        assertThat(node.size()).isZero();
+        then(blackTokenRepository).should(times(3)).findAllByExpiryDateAfter(any());
+    }
+
+    private TokenRevocationIndex startNode() {
+        TokenRevocationIndex index = new TokenRevocationIndex(blackTokenRepository);
+        ReflectionTestUtils.setField(index, "expectedTokens", 1000);
+        ReflectionTestUtils.setField(index, "falsePositiveRate", 0.01);
+        index.init();
+
+        new TokenRevocationSynchronizer(blackTokenRepository, index, transport).start();
+
+        return index;
+    }
+
+    private JwtBlackToken blackToken(Long id, String token, LocalDateTime expiryDate) {
+        return JwtBlackToken.builder()
+                .id(id)
+                .token(token)
+                .expiryDate(expiryDate)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.gym.crm.app.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100);
+
+    @Test
+    @DisplayName("Test cached claims are returned functionality")
+    void givenCachedClaims_whenGet_thenClaimsReturned() {
+        // given
+        Claims claims = Jwts.claims()
+                .subject("test")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .build();
+        cache.put("token", claims);
+
+        // when
+        Claims actual = cache.get("token");
+
+        // then
+        assertThat(actual).isSameAs(claims);
+        assertThat(cache.get("another_token")).isNull();
+    }
+
+    @Test
+    @DisplayName("Test expired claims are not returned functionality")
+    void givenExpiredClaims_whenGet_thenNullReturned() {
+        // given
+        Claims claims = Jwts.claims()
+                .subject("test")
+                .expiration(new Date(System.currentTimeMillis() - 1_000))
+                .build();
+        cache.put("token", claims);
+
+        // when
+        Claims actual = cache.get("token");
+
+        // then
+        assertThat(actual).isNull();
+    }
+}
@@ -0,0 +1,99 @@
+package com.gym.crm.app.service.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class AdvisoryLockServiceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @InjectMocks
+    private AdvisoryLockService advisoryLockService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(dataSource.getConnection()).willReturn(connection);
+    }
+
+    @Test
+    @DisplayName("Test task runs and lock is released when acquired")
+    void givenFreeLock_whenRunExclusively_thenTaskRunsAndLockIsReleased() throws SQLException {
+        // given
+        AtomicBoolean executed = new AtomicBoolean();
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+        given(statement.executeQuery()).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getBoolean(1)).willReturn(true);
+
+        // when
+        boolean actual = advisoryLockService.runExclusively(42L, () -> executed.set(true));
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(executed).isTrue();
+        then(connection).should().prepareStatement("SELECT pg_try_advisory_lock(?)");
+        then(connection).should().prepareStatement("SELECT pg_advisory_unlock(?)");
+        then(connection).should().close();
+    }
+
+    @Test
+    @DisplayName("Test task is skipped when lock is held elsewhere")
+    void givenHeldLock_whenRunExclusively_thenTaskIsSkipped() throws SQLException {
+        // given
+        AtomicBoolean executed = new AtomicBoolean();
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+        given(statement.executeQuery()).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getBoolean(1)).willReturn(false);
+
+        // when
+        boolean actual = advisoryLockService.runExclusively(42L, () -> executed.set(true));
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(executed).isFalse();
+        then(connection).should(never()).prepareStatement("SELECT pg_advisory_unlock(?)");
+    }
+
+    @Test
+    @DisplayName("Test database failure is reported")
+    void givenBrokenConnection_whenRunExclusively_thenExceptionThrown() throws SQLException {
+        // given
+        given(connection.prepareStatement(anyString())).willThrow(new SQLException("connection closed"));
+
+        // when & then
+        assertThatThrownBy(() -> advisoryLockService.runExclusively(42L, () -> {
+        }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.gym.crm.app.service.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKeyFactory;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CryptoPrimitivesTest {
+
+    private final CryptoPrimitives cryptoPrimitives = new CryptoPrimitives();
+
+    @Test
+    @DisplayName("Test secret key factory is reused within a thread")
+    void givenSameThread_whenSecretKeyFactory_thenSameInstanceReturned() throws Exception {
+        // when
+        SecretKeyFactory first = cryptoPrimitives.secretKeyFactory(PasswordHashAlgorithm.PBKDF2_SHA256);
+        SecretKeyFactory second = cryptoPrimitives.secretKeyFactory(PasswordHashAlgorithm.PBKDF2_SHA256);
+        SecretKeyFactory sha512 = cryptoPrimitives.secretKeyFactory(PasswordHashAlgorithm.PBKDF2_SHA512);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(sha512).isNotSameAs(first);
+        assertThat(sha512.getAlgorithm()).isEqualTo("PBKDF2WithHmacSHA512");
+    }
+
+    @Test
+    @DisplayName("Test secret key factory is not shared between threads")
+    void givenAnotherThread_whenSecretKeyFactory_thenAnotherInstanceReturned() throws Exception {
+        // given
+        SecretKeyFactory current = cryptoPrimitives.secretKeyFactory(PasswordHashAlgorithm.PBKDF2_SHA256);
+
+        // when
+        SecretKeyFactory other = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cryptoPrimitives.secretKeyFactory(PasswordHashAlgorithm.PBKDF2_SHA256);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        // then
+        assertThat(other).isNotSameAs(current);
+    }
+
+    @Test
+    @DisplayName("Test random bytes have requested length")
+    void givenLength_whenRandomBytes_thenBytesReturned() {
+        // when
+        byte[] actual = cryptoPrimitives.randomBytes(16);
+
+        // then
+        assertThat(actual).hasSize(16);
+    }
+}
@@ -0,0 +1,93 @@
+package com.gym.crm.app.service.common;
+
+import com.gym.crm.app.exception.PasswordHashingRejectedException;
+import com.gym.crm.app.exception.PasswordOperationException;
+import com.gym.crm.app.rest.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(2), registry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test execute returns task result functionality")
+    void givenTask_whenExecute_thenResultIsReturned() {
+        // when
+        String actual = executor.execute(() -> Thread.currentThread().getName());
+
+        // then
+        assertThat(actual).startsWith("password-hashing-");
+        assertThat(registry.get("password_hash_duration_seconds").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test execute rethrows task exception functionality")
+    void givenFailingTask_whenExecute_thenExceptionIsRethrown() {
+        // given
+        PasswordOperationException exception = new PasswordOperationException("Password cannot be hashed", ErrorCode.HASHED_ERROR.getCode(), null);
+
+        // when
+        PasswordOperationException actual = assertThrows(PasswordOperationException.class, () -> executor.execute(() -> {
+            throw exception;
+        }));
+
+        // then
+        assertThat(actual).isSameAs(exception);
+    }
+
+    @Test
+    @DisplayName("Test execute rejects task when saturated functionality")
+    void givenSaturatedExecutor_whenExecute_thenTaskIsRejected() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            return awaitQuietly(release);
+        }));
+        started.await();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> true));
+
+        while (registry.get("password_hash_queue_size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        PasswordHashingRejectedException ex = assertThrows(PasswordHashingRejectedException.class, () -> executor.execute(() -> true));
+        release.countDown();
+
+        // then
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.PASSWORD_HASHING_OVERLOADED.getCode());
+        assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(running.get()).isTrue();
+        assertThat(queued.get()).isTrue();
+        assertThat(registry.get("password_hash_rejected_total").counter().count()).isEqualTo(1);
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
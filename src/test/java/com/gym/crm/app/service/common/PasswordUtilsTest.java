@@ -1,17 +1,21 @@
 package com.gym.crm.app.service.common;
 
 import com.gym.crm.app.exception.PasswordOperationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.crypto.SecretKeyFactory;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -22,9 +26,21 @@ import static org.mockito.Mockito.mockStatic;
 @ExtendWith(MockitoExtension.class)
 class PasswordUtilsTest {
 
+    @Spy
+    private PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(1, 10, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+    @Spy
+    private CryptoPrimitives cryptoPrimitives = new CryptoPrimitives();
+
     @InjectMocks
     private PasswordUtils utils;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(utils, "algorithm", PasswordHashAlgorithm.PBKDF2_SHA256);
+        ReflectionTestUtils.setField(utils, "iterations", 100_000);
+    }
+
     @RepeatedTest(10)
     @DisplayName("Test generate password with valid length and contains allowed characters")
     public void whenGeneratePassword_thenPasswordIsGenerated() {
@@ -47,16 +63,72 @@ class PasswordUtilsTest {
         // when
         String hashedPassword = utils.hashPassword(password);
 
-        String[] parts = hashedPassword.split(":");
-        String salt = parts[0];
-        String hash = parts[1];
+        String[] parts = hashedPassword.split("\\$");
+        String algorithm = parts[1];
+        String iterations = parts[2];
+        String salt = parts[3];
+        String hash = parts[4];
 
         // then
-        assertThat(parts).hasSize(2);
+        assertThat(parts).hasSize(5);
+        assertThat(algorithm).isEqualTo("pbkdf2-sha256");
+        assertThat(iterations).isEqualTo("100000");
         assertThat(salt).hasSize(24);
         assertThat(hash).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("Test password verification with configured algorithm")
+    public void givenSha512Algorithm_whenIsPasswordCorrect_thenReturnsTrueOnlyForCorrectPassword() {
+        // given
+        ReflectionTestUtils.setField(utils, "algorithm", PasswordHashAlgorithm.PBKDF2_SHA512);
+        ReflectionTestUtils.setField(utils, "iterations", 1_000);
+
+        String storedPassword = utils.hashPassword("mySecurePassword");
+
+        // when
+        boolean correct = utils.isPasswordCorrect("mySecurePassword", storedPassword);
+        boolean incorrect = utils.isPasswordCorrect("anotherPassword", storedPassword);
+
+        // then
+        assertThat(storedPassword).startsWith("$pbkdf2-sha512$1000$");
+        assertThat(correct).isTrue();
+        assertThat(incorrect).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test upgrade encoding for outdated hashes")
+    public void givenStoredPasswords_whenUpgradeEncoding_thenOnlyOutdatedHashesRequireUpgrade() {
+        // given
+        String legacyPassword = "%s:%s".formatted("salt", "hash");
+        String currentPassword = "$pbkdf2-sha256$100000$salt$hash";
+        String weakerPassword = "$pbkdf2-sha256$10000$salt$hash";
+        String otherAlgorithmPassword = "$pbkdf2-sha512$100000$salt$hash";
+
+        // when
+        boolean legacy = utils.upgradeEncoding(legacyPassword);
+        boolean current = utils.upgradeEncoding(currentPassword);
+        boolean weaker = utils.upgradeEncoding(weakerPassword);
+        boolean otherAlgorithm = utils.upgradeEncoding(otherAlgorithmPassword);
+
+        // then
+        assertThat(legacy).isTrue();
+        assertThat(current).isFalse();
+        assertThat(weaker).isTrue();
+        assertThat(otherAlgorithm).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test password verification with unsupported format")
+    public void givenUnknownAlgorithm_whenIsPasswordCorrect_thenExceptionIsThrown() {
+        // when
+        PasswordOperationException ex = assertThrows(PasswordOperationException.class,
+                () -> utils.isPasswordCorrect("password", "$md5$1$salt$hash"));
+
+        // then
+        assertThat(ex.getMessage()).isEqualTo("Unsupported password hash format");
+    }
+
     @Test
     @DisplayName("Test password verification with correct password")
     public void givenStoredPassword_whenIsPasswordCorrect_thenReturnsTrueForCorrectPassword() {
@@ -64,7 +136,7 @@ class PasswordUtilsTest {
         String plainPassword = "mySecurePassword";
 
         String salt = ReflectionTestUtils.invokeMethod(utils, "generateSalt");
-        String hashedPassword = ReflectionTestUtils.invokeMethod(utils, "hashPassword", plainPassword, salt);
+        String hashedPassword = ReflectionTestUtils.invokeMethod(utils, "hashPassword", plainPassword, salt, PasswordHashAlgorithm.PBKDF2_SHA256, 100_000);
 
         String storedPassword = "%s:%s".formatted(salt, hashedPassword);
 
@@ -89,7 +161,7 @@ class PasswordUtilsTest {
 
         // when
         PasswordOperationException ex = assertThrows(PasswordOperationException.class, () -> {
-            ReflectionTestUtils.invokeMethod(utils, "hashPassword", plainPassword, salt);
+            ReflectionTestUtils.invokeMethod(utils, "hashPassword", plainPassword, salt, PasswordHashAlgorithm.PBKDF2_SHA256, 100_000);
         });
         Throwable cause = ex.getCause();
 
@@ -0,0 +1,85 @@
+package com.gym.crm.app.service.common;
+
+import com.gym.crm.app.repository.TrainerRepository;
+import com.gym.crm.app.repository.projection.TrainerView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerDirectoryTest {
+
+    private final TrainerView david = new TrainerView(2L, "David.Brown", "David", "Brown", "Yoga");
+    private final TrainerView anna = new TrainerView(1L, "Anna.Smith", "Anna", "Smith", "Yoga");
+
+    @Mock
+    private TrainerRepository repository;
+
+    private TrainerDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new TrainerDirectory(repository, Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Test trainers are loaded once and sorted by username functionality")
+    void givenSpecialization_whenFindActiveTrainersTwice_thenRepositoryIsQueriedOnce() {
+        // given
+        given(repository.findActiveTrainerViews("Yoga"))
+                .willReturn(List.of(david, anna));
+
+        // when
+        directory.findActiveTrainers("Yoga");
+        List<TrainerView> actual = directory.findActiveTrainers("Yoga");
+
+        // then
+        assertThat(actual).containsExactly(anna, david);
+        verify(repository, times(1)).findActiveTrainerViews("Yoga");
+    }
+
+    @Test
+    @DisplayName("Test blank specialization loads all trainers functionality")
+    void givenBlankSpecialization_whenFindActiveTrainers_thenAllTrainersAreLoaded() {
+        // given
+        given(repository.findActiveTrainerViews(null))
+                .willReturn(List.of(anna));
+
+        // when
+        directory.findActiveTrainers(null);
+        List<TrainerView> actual = directory.findActiveTrainers(" ");
+
+        // then
+        assertThat(actual).containsExactly(anna);
+        verify(repository, times(1)).findActiveTrainerViews(null);
+    }
+
+    @Test
+    @DisplayName("Test invalidated directory is reloaded functionality")
+    void givenCachedTrainers_whenInvalidate_thenTrainersAreReloaded() {
+        // given
+        given(repository.findActiveTrainerViews("Yoga"))
+                .willReturn(List.of(anna), List.of(anna, david));
+        directory.findActiveTrainers("Yoga");
+
+        // when
+        directory.invalidate();
+        List<TrainerView> actual = directory.findActiveTrainers("Yoga");
+
+        // then
+        assertThat(actual).containsExactly(anna, david);
+        verify(repository, times(2)).findActiveTrainerViews("Yoga");
+    }
+}
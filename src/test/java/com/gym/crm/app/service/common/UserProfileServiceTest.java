@@ -1,37 +1,48 @@
 package com.gym.crm.app.service.common;
 
 import com.gym.crm.app.entity.User;
-import com.gym.crm.app.repository.UserRepository;
-import com.gym.crm.app.utils.EntityTestData;
+import com.gym.crm.app.exception.EntityValidationException;
+import com.gym.crm.app.logging.MessageHelper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Collections;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class UserProfileServiceTest {
 
     @Mock
-    private UserRepository repository;
+    private UsernameAllocator usernameAllocator;
 
     @Mock
     private PasswordUtils passwordUtils;
 
+    @Mock
+    private MessageHelper messageHelper;
+
     @InjectMocks
     private UserProfileService service;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxAttempts", 2);
+    }
+
     @Test
     @DisplayName("Test generate password functionality")
     public void whenGeneratePassword_thenPasswordGeneratorIsCalled() {
@@ -56,96 +67,81 @@ class UserProfileServiceTest {
     }
 
     @Test
-    @DisplayName("Test generate username with serial number functionality")
-    public void givenFirstNameAndLastName_whenAddSerialNumberToUsername_thenReturnsUsername() {
-        // given
-        String username = "John.Doe";
-
-        given(repository.findAllByUsernameContains(anyString()))
-                .willReturn(List.of(EntityTestData.getPersistedUserJohnDoe()));
-
-        // when
-        String actualUsername = ReflectionTestUtils.invokeMethod(service, "addSerialNumberToUsername", username);
-
-        // then
-        assertThat(actualUsername).isEqualTo("John.Doe1");
-    }
-
-
-    @Test
-    @DisplayName("Test generate username without duplication")
-    public void givenFirstNameAndLastName_whenGenerateUsername_thenReturnsUsernameWithSerialNumberWithoutNumber() {
+    @DisplayName("Test generate username functionality")
+    public void givenFirstNameAndLastName_whenGenerateUsername_thenAllocatorIsCalledWithBaseName() {
         // given
         String firstName = "John";
         String lastName = "Doe";
 
-        given(repository.findByUsername(anyString()))
-                .willReturn(Optional.empty());
+        given(usernameAllocator.allocate("John.Doe"))
+                .willReturn("John.Doe1");
 
         // when
         String username = service.generateUsername(firstName, lastName);
 
         // then
-        assertThat(username).isEqualTo("John.Doe");
+        assertThat(username).isEqualTo("John.Doe1");
+        verify(usernameAllocator).allocate("John.Doe");
     }
 
     @Test
-    @DisplayName("Test generate username with duplication")
-    public void givenDuplicatedUsername_whenGenerateUsername_thenUserProfileServiceIsCalled() {
+    @DisplayName("Test username conflict on save is retried with next username functionality")
+    void givenUsernameConflict_whenSaveWithUniqueUsername_thenSaveIsRetriedWithNextUsername() {
         // given
-        String firstName = "John";
-        String lastName = "Doe";
+        User user = User.builder().firstName("John").lastName("Doe").username("John.Doe1").build();
+        List<String> attempted = new ArrayList<>();
 
-        User existingUser = User.builder()
-                .username("John.Doe")
-                .build();
-
-        given(repository.findAllByUsernameContains(anyString()))
-                .willReturn(Collections.singletonList(existingUser));
-        given(repository.findByUsername(anyString()))
-                .willReturn(Optional.of(existingUser));
+        given(usernameAllocator.allocate("John.Doe"))
+                .willReturn("John.Doe2");
 
         // when
-        String username = service.generateUsername(firstName, lastName);
+        String actual = service.saveWithUniqueUsername(user, candidate -> {
+            attempted.add(candidate.getUsername());
+            if (attempted.size() == 1) {
+                throw usernameConflict();
+            }
+
+            return candidate.getUsername();
+        });
 
         // then
-        assertThat(username).isEqualTo("John.Doe1");
+        assertThat(actual).isEqualTo("John.Doe2");
+        assertThat(attempted).containsExactly("John.Doe1", "John.Doe2");
     }
 
     @Test
-    @DisplayName("Test is duplicated username when username is not duplicated")
-    public void givenUsername_whenIsDuplicatedUsername_thenReturnsFalse() {
+    @DisplayName("Test unrelated integrity violation on save is not retried functionality")
+    void givenOtherConstraintViolation_whenSaveWithUniqueUsername_thenExceptionIsRethrown() {
         // given
-        String username = "uniqueUsername";
-
-        given(repository.findByUsername(username))
-                .willReturn(Optional.empty());
-
-        // when
-        Boolean isDuplicated = ReflectionTestUtils.invokeMethod(service, "isDuplicatedUsername", username);
-
-        // then
-        assertThat(isDuplicated).isFalse();
+        User user = User.builder().firstName("John").lastName("Doe").username("John.Doe").build();
+        DataIntegrityViolationException violation =
+                new DataIntegrityViolationException("insert", new SQLException("violates foreign key constraint \"fk_trainee_user\""));
+
+        // when, then
+        assertThatThrownBy(() -> service.saveWithUniqueUsername(user, candidate -> {
+            throw violation;
+        })).isSameAs(violation);
+        verify(usernameAllocator, never()).allocate("John.Doe");
     }
 
     @Test
-    @DisplayName("Test isDuplicatedUsername when username is duplicated")
-    public void givenUsername_whenIsDuplicatedUsername_thenReturnsTrue() {
+    @DisplayName("Test save fails after max username conflicts functionality")
+    void givenRepeatedUsernameConflicts_whenSaveWithUniqueUsername_thenExceptionIsThrown() {
         // given
-        String username = "John.Doe";
-
-        User existingUser = User.builder()
-                .username("John.Doe")
-                .build();
+        User user = User.builder().firstName("John").lastName("Doe").username("John.Doe").build();
 
-        given(repository.findByUsername(username))
-                .willReturn(Optional.of(existingUser));
+        given(usernameAllocator.allocate("John.Doe"))
+                .willReturn("John.Doe1");
 
-        // when
-        Boolean isDuplicated = ReflectionTestUtils.invokeMethod(service, "isDuplicatedUsername", username);
+        // when, then
+        assertThatThrownBy(() -> service.saveWithUniqueUsername(user, candidate -> {
+            throw usernameConflict();
+        })).isInstanceOf(EntityValidationException.class);
+    }
 
-        // then
-        assertThat(isDuplicated).isTrue();
+    private static DataIntegrityViolationException usernameConflict() {
+        return new DataIntegrityViolationException("insert",
+                new SQLException("duplicate key value violates unique constraint \"unique_user_username\""));
     }
 
     @Test
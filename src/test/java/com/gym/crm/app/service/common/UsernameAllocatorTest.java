@@ -0,0 +1,108 @@
+package com.gym.crm.app.service.common;
+
+import com.gym.crm.app.exception.EntityValidationException;
+import com.gym.crm.app.logging.MessageHelper;
+import com.gym.crm.app.repository.UserRepository;
+import com.gym.crm.app.repository.UsernameCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameAllocatorTest {
+
+    @Mock
+    private UsernameCounterRepository counterRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MessageHelper messageHelper;
+
+    @InjectMocks
+    private UsernameAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(allocator, "maxAttempts", 3);
+    }
+
+    @Test
+    @DisplayName("Test first allocation returns base name functionality")
+    void givenNewBaseName_whenAllocate_thenBaseNameIsReturned() {
+        // given
+        given(counterRepository.nextSerial("John.Doe"))
+                .willReturn(0L);
+        given(userRepository.existsByUsername("John.Doe"))
+                .willReturn(false);
+
+        // when
+        String actual = allocator.allocate("John.Doe");
+
+        // then
+        assertThat(actual).isEqualTo("John.Doe");
+    }
+
+    @Test
+    @DisplayName("Test next allocation appends serial number functionality")
+    void givenUsedBaseName_whenAllocate_thenSerialNumberIsAppended() {
+        // given
+        given(counterRepository.nextSerial("John.Doe"))
+                .willReturn(2L);
+        given(userRepository.existsByUsername("John.Doe2"))
+                .willReturn(false);
+
+        // when
+        String actual = allocator.allocate("John.Doe");
+
+        // then
+        assertThat(actual).isEqualTo("John.Doe2");
+    }
+
+    @Test
+    @DisplayName("Test taken username is skipped functionality")
+    void givenTakenUsername_whenAllocate_thenNextSerialIsUsed() {
+        // given
+        given(counterRepository.nextSerial("John.Doe"))
+                .willReturn(1L, 2L);
+        given(userRepository.existsByUsername("John.Doe1"))
+                .willReturn(true);
+        given(userRepository.existsByUsername("John.Doe2"))
+                .willReturn(false);
+
+        // when
+        String actual = allocator.allocate("John.Doe");
+
+        // then
+        assertThat(actual).isEqualTo("John.Doe2");
+        verify(counterRepository, times(2)).nextSerial("John.Doe");
+    }
+
+    @Test
+    @DisplayName("Test allocation fails after max attempts functionality")
+    void givenOnlyTakenUsernames_whenAllocate_thenExceptionIsThrown() {
+        // given
+        given(counterRepository.nextSerial("John.Doe"))
+                .willReturn(1L, 2L, 3L);
+        given(userRepository.existsByUsername(anyString()))
+                .willReturn(true);
+
+        // when, then
+        assertThatThrownBy(() -> allocator.allocate("John.Doe"))
+                .isInstanceOf(EntityValidationException.class);
+        verify(counterRepository, times(3)).nextSerial("John.Doe");
+    }
+}
@@ -0,0 +1,50 @@
+package com.gym.crm.app.service.export;
+
+import com.gym.crm.app.repository.projection.TrainingView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvTrainingExportWriterTest {
+
+    @Test
+    @DisplayName("Test trainings are written as csv rows after the header")
+    void givenTrainings_whenWrite_thenCsvRowsAreWritten() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TrainingView training = new TrainingView(1L, "Morning yoga", LocalDate.parse("2020-01-02"), "Yoga", 60, "Emily", "John");
+
+        // when
+        try (TrainingExportWriter writer = new CsvTrainingExportWriter(out)) {
+            writer.write(training);
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,trainingDate,trainingName,trainingType,trainingDuration,trainerName,traineeName\r\n"
+                        + "1,2020-01-02,Morning yoga,Yoga,60,Emily,John\r\n");
+    }
+
+    @Test
+    @DisplayName("Test fields with separators and quotes are quoted")
+    void givenFieldWithSeparator_whenWrite_thenFieldIsQuoted() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TrainingView training = new TrainingView(2L, "Stretch, \"light\"", LocalDate.parse("2020-01-03"), "Yoga", 30, null, "John");
+
+        // when
+        try (TrainingExportWriter writer = new CsvTrainingExportWriter(out)) {
+            writer.write(training);
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .endsWith("2,2020-01-03,\"Stretch, \"\"light\"\"\",Yoga,30,,John\r\n");
+    }
+}
@@ -0,0 +1,35 @@
+package com.gym.crm.app.service.export;
+
+import com.gym.crm.app.repository.projection.TrainingView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonTrainingExportWriterTest {
+
+    @Test
+    @DisplayName("Test each training is written as one json line")
+    void givenTrainings_whenWrite_thenJsonLinesAreWritten() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TrainingView first = new TrainingView(1L, "Morning yoga", LocalDate.parse("2020-01-02"), "Yoga", 60, "Emily", "John");
+        TrainingView second = new TrainingView(2L, "Evening run", LocalDate.parse("2020-01-03"), "Cardio", null, null, "Jane");
+
+        // when
+        try (TrainingExportWriter writer = new NdjsonTrainingExportWriter(out)) {
+            writer.write(first);
+            writer.write(second);
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"trainingDate\":\"2020-01-02\",\"trainingName\":\"Morning yoga\",\"trainingType\":\"Yoga\",\"trainingDuration\":60,\"trainerName\":\"Emily\",\"traineeName\":\"John\"}\n"
+                        + "{\"id\":2,\"trainingDate\":\"2020-01-03\",\"trainingName\":\"Evening run\",\"trainingType\":\"Cardio\",\"trainingDuration\":null,\"trainerName\":null,\"traineeName\":\"Jane\"}\n");
+    }
+}
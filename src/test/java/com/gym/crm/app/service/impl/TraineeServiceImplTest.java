@@ -5,6 +5,8 @@ import com.gym.crm.app.entity.Training;
 import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.logging.MessageHelper;
 import com.gym.crm.app.repository.TraineeRepository;
+import com.gym.crm.app.repository.projection.TrainerView;
+import com.gym.crm.app.service.TrainerService;
 import com.gym.crm.app.service.TrainingService;
 import com.gym.crm.app.service.common.EntityValidator;
 import com.gym.crm.app.service.search.TraineeTrainingSearchFilter;
@@ -20,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static com.gym.crm.app.util.Constants.ERROR_TRAINEE_WITH_ID_NOT_FOUND;
@@ -28,12 +31,14 @@ import static com.gym.crm.app.util.Constants.WARN_TRAINEE_WITH_ID_NOT_FOUND;
 import static com.gym.crm.app.util.Constants.WARN_TRAINEE_WITH_USERNAME_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class TraineeServiceImplTest {
@@ -50,6 +55,9 @@ class TraineeServiceImplTest {
     @Mock
     private TrainingService trainingService;
 
+    @Mock
+    private TrainerService trainerService;
+
     @InjectMocks
     private TraineeServiceImpl service;
 
@@ -265,4 +273,54 @@ class TraineeServiceImplTest {
 
         mockedStatic.close();
     }
+
+    @Test
+    @DisplayName("Test update trainee trainers applies only the difference functionality")
+    public void givenTrainerUsernames_whenUpdateTrainers_thenOnlyChangedAssignmentsAreWritten() {
+        // given
+        String username = "John.Doe";
+        List<String> trainerUsernames = List.of("Emily.Davis", "David.Brown");
+
+        TrainerView emily = new TrainerView(1L, "Emily.Davis", "Emily", "Davis", "Fitness");
+        TrainerView david = new TrainerView(2L, "David.Brown", "David", "Brown", "Yoga");
+
+        doNothing().when(entityValidator).checkEntity(username);
+        given(repository.findIdByUserUsername(username))
+                .willReturn(Optional.of(10L));
+        given(trainerService.findAllByUsernames(trainerUsernames))
+                .willReturn(List.of(emily, david));
+        given(repository.findTrainerIdsByTraineeId(10L))
+                .willReturn(List.of(1L, 3L));
+
+        // when
+        List<TrainerView> actual = service.updateTrainers(username, trainerUsernames);
+
+        // then
+        assertThat(actual).containsExactly(emily, david);
+        verify(repository).unassignTrainers(10L, List.of(3L));
+        verify(repository).assignTrainers(10L, List.of(2L));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Test update trainers of missing trainee functionality")
+    public void givenMissingTrainee_whenUpdateTrainers_thenExceptionIsThrown() {
+        // given
+        String username = "John.Doe";
+        String message = "Trainee with username %s not found".formatted(username);
+
+        doNothing().when(entityValidator).checkEntity(username);
+        given(repository.findIdByUserUsername(username))
+                .willReturn(Optional.empty());
+        given(messageHelper.getMessage(ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND, username))
+                .willReturn(message);
+
+        // when
+        EntityValidationException actual = assertThrows(EntityValidationException.class,
+                () -> service.updateTrainers(username, List.of("Emily.Davis")));
+
+        // then
+        assertThat(actual.getMessage()).isEqualTo(message);
+        verifyNoInteractions(trainerService);
+    }
 }
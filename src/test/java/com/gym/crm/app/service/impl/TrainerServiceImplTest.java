@@ -4,12 +4,18 @@ import com.gym.crm.app.entity.Trainer;
 import com.gym.crm.app.entity.Training;
 import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.logging.MessageHelper;
+import com.gym.crm.app.repository.TraineeRepository;
 import com.gym.crm.app.repository.TrainerRepository;
+import com.gym.crm.app.repository.projection.TrainerView;
 import com.gym.crm.app.service.TrainingService;
 import com.gym.crm.app.service.common.EntityValidator;
+import com.gym.crm.app.service.common.TrainerDirectory;
+import com.gym.crm.app.service.search.CursorPage;
+import com.gym.crm.app.service.search.TrainerCursor;
 import com.gym.crm.app.service.search.TrainerTrainingSearchFilter;
 import com.gym.crm.app.service.spectification.TrainerTrainingSpecification;
 import com.gym.crm.app.utils.EntityTestData;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,12 +23,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.gym.crm.app.util.Constants.ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND;
 import static com.gym.crm.app.util.Constants.ERROR_TRAINER_WITH_ID_NOT_FOUND;
 import static com.gym.crm.app.util.Constants.ERROR_TRAINER_WITH_USERNAME_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +43,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class TrainerServiceImplTest {
@@ -48,9 +60,21 @@ class TrainerServiceImplTest {
     @Mock
     private TrainingService trainingService;
 
+    @Mock
+    private TraineeRepository traineeRepository;
+
+    @Mock
+    private TrainerDirectory trainerDirectory;
+
     @InjectMocks
     private TrainerServiceImpl service;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "directoryEnabled", true);
+        ReflectionTestUtils.setField(service, "maxPageSize", 200);
+    }
+
     @Test
     @DisplayName("Test find trainer by id functionality")
     public void givenId_whenFindById_thenTrainerIsReturned() {
@@ -158,26 +182,138 @@ class TrainerServiceImplTest {
     }
 
     @Test
-    @DisplayName("Test find trainer by incorrect id functionality")
-    public void givenUsername_whenGtTrainersNotAssigned_thenTrainersIsReturned() {
+    @DisplayName("Test find trainers by usernames in one query functionality")
+    public void givenUsernames_whenFindAllByUsernames_thenTrainersAreReturnedInRequestOrder() {
+        // given
+        TrainerView emily = new TrainerView(1L, "Emily.Davis", "Emily", "Davis", "Fitness");
+        TrainerView david = new TrainerView(2L, "David.Brown", "David", "Brown", "Yoga");
+
+        given(repository.findTrainerViewsByUsernames(Set.of("Emily.Davis", "David.Brown")))
+                .willReturn(List.of(david, emily));
+
+        // when
+        List<TrainerView> actual = service.findAllByUsernames(List.of("Emily.Davis", "David.Brown", "Emily.Davis"));
+
+        // then
+        assertThat(actual).containsExactly(emily, david);
+    }
+
+    @Test
+    @DisplayName("Test find trainers by unknown username functionality")
+    public void givenUnknownUsername_whenFindAllByUsernames_thenExceptionIsThrown() {
+        // given
+        String message = "Trainer with username %s not found".formatted("invalid");
+        TrainerView emily = new TrainerView(1L, "Emily.Davis", "Emily", "Davis", "Fitness");
+
+        given(repository.findTrainerViewsByUsernames(Set.of("Emily.Davis", "invalid")))
+                .willReturn(List.of(emily));
+        given(messageHelper.getMessage(ERROR_TRAINER_WITH_USERNAME_NOT_FOUND, "invalid"))
+                .willReturn(message);
+
+        // when
+        EntityValidationException actual = assertThrows(EntityValidationException.class,
+                () -> service.findAllByUsernames(List.of("Emily.Davis", "invalid")));
+
+        // then
+        assertThat(actual.getMessage()).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("Test get trainers not assigned from directory functionality")
+    public void givenUsername_whenGetTrainersNotAssigned_thenAssignedTrainersAreExcluded() {
         // given
         String username = "username";
 
-        Trainer trainer1 = EntityTestData.getPersistedTrainerEmilyDavis();
-        Trainer trainer2 = EntityTestData.getTransientTrainerDavidBrown();
+        TrainerView assigned = new TrainerView(1L, "Anna.Smith", "Anna", "Smith", "Yoga");
+        TrainerView available = new TrainerView(2L, "David.Brown", "David", "Brown", "Yoga");
+
+        doNothing().when(entityValidator).checkEntity(username);
+        given(traineeRepository.findTrainerIdsByUserUsername(username))
+                .willReturn(List.of(1L));
+        given(trainerDirectory.findActiveTrainers("Yoga"))
+                .willReturn(List.of(assigned, available));
+
+        // when
+        CursorPage<TrainerView> actual = service.getTrainersNotAssignedByTraineeUsername(username, "Yoga", null, null);
 
-        List<Trainer> trainers = List.of(trainer1, trainer2);
+        // then
+        assertThat(actual.content()).containsExactly(available);
+        assertThat(actual.hasNext()).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Test get trainers not assigned page by page functionality")
+    public void givenCursorAndLimit_whenGetTrainersNotAssigned_thenNextPageIsReturned() {
+        // given
+        String username = "username";
+
+        TrainerView first = new TrainerView(1L, "Anna.Smith", "Anna", "Smith", "Yoga");
+        TrainerView second = new TrainerView(2L, "David.Brown", "David", "Brown", "Fitness");
+        TrainerView third = new TrainerView(3L, "Emily.Davis", "Emily", "Davis", "Yoga");
+        TrainerView fourth = new TrainerView(4L, "John.Smith", "John", "Smith", "Zumba");
+
+        // a trainee without trainers comes back as a single null id
+        List<Long> noTrainers = new ArrayList<>();
+        noTrainers.add(null);
 
         doNothing().when(entityValidator).checkEntity(username);
-        given(repository.getTrainersNotAssignedByTraineeUsername(username))
-                .willReturn(trainers);
+        given(traineeRepository.findTrainerIdsByUserUsername(username))
+                .willReturn(noTrainers);
+        given(trainerDirectory.findActiveTrainers(null))
+                .willReturn(List.of(first, second, third, fourth));
 
         // when
-        List<Trainer> actual = service.getTrainersNotAssignedByTraineeUsername(username);
+        CursorPage<TrainerView> actual = service.getTrainersNotAssignedByTraineeUsername(username, null, TrainerCursor.of(first), 2);
 
         // then
-        assertThat(actual).isNotNull();
-        assertThat(actual).isEqualTo(trainers);
+        assertThat(actual.content()).containsExactly(second, third);
+        assertThat(TrainerCursor.decode(actual.nextCursor())).isEqualTo(TrainerCursor.of(third));
+    }
+
+    @Test
+    @DisplayName("Test get trainers not assigned to missing trainee functionality")
+    public void givenMissingTrainee_whenGetTrainersNotAssigned_thenExceptionIsThrown() {
+        // given
+        String username = "username";
+        String message = "Trainee with username %s not found".formatted(username);
+
+        doNothing().when(entityValidator).checkEntity(username);
+        given(traineeRepository.findTrainerIdsByUserUsername(username))
+                .willReturn(List.of());
+        given(messageHelper.getMessage(ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND, username))
+                .willReturn(message);
+
+        // when
+        EntityValidationException actual = assertThrows(EntityValidationException.class,
+                () -> service.getTrainersNotAssignedByTraineeUsername(username, null, null, null));
+
+        // then
+        assertThat(actual.getMessage()).isEqualTo(message);
+        verifyNoInteractions(trainerDirectory);
+    }
+
+    @Test
+    @DisplayName("Test get trainers not assigned without directory functionality")
+    public void givenDirectoryDisabled_whenGetTrainersNotAssigned_thenRepositoryIsQueried() {
+        // given
+        ReflectionTestUtils.setField(service, "directoryEnabled", false);
+
+        String username = "username";
+        TrainerView available = new TrainerView(2L, "David.Brown", "David", "Brown", "Yoga");
+
+        doNothing().when(entityValidator).checkEntity(username);
+        given(repository.findAvailableTrainerViews(username, null, null, Limit.of(11)))
+                .willReturn(List.of(available));
+
+        // when
+        CursorPage<TrainerView> actual = service.getTrainersNotAssignedByTraineeUsername(username, null, null, 10);
+
+        // then
+        assertThat(actual.content()).containsExactly(available);
+        assertThat(actual.hasNext()).isFalse();
+        verify(entityValidator).checkIfTraineeExist(username);
+        verifyNoInteractions(trainerDirectory);
     }
 
     @Test
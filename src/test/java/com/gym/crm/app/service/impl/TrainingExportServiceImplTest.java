@@ -0,0 +1,63 @@
+package com.gym.crm.app.service.impl;
+
+import com.gym.crm.app.repository.TrainingRepository;
+import com.gym.crm.app.repository.projection.TrainingView;
+import com.gym.crm.app.service.export.TrainingExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingExportServiceImplTest {
+
+    @Mock
+    private TrainingRepository repository;
+
+    @InjectMocks
+    private TrainingExportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "fetchSize", 500);
+    }
+
+    @Test
+    @DisplayName("Test trainings are streamed to the output and the cursor is closed")
+    @SuppressWarnings("unchecked")
+    void givenTrainings_whenExport_thenRowsAreWrittenAndStreamIsClosed() throws IOException {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        TrainingView training = new TrainingView(1L, "Morning yoga", LocalDate.parse("2020-01-02"), "Yoga", 60, "Emily", "John");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        given(repository.streamViews(any(Specification.class), any(Sort.class), eq(500)))
+                .willReturn(Stream.of(training).onClose(() -> closed.set(true)));
+
+        // when
+        service.export("Emily.Davis", TrainingExportFormat.CSV, out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .contains("1,2020-01-02,Morning yoga,Yoga,60,Emily,John");
+        assertThat(closed).isTrue();
+    }
+}
@@ -0,0 +1,114 @@
+package com.gym.crm.app.service.impl;
+
+import com.gym.crm.app.entity.Training;
+import com.gym.crm.app.logging.MessageHelper;
+import com.gym.crm.app.repository.TraineeRepository;
+import com.gym.crm.app.repository.TrainerRepository;
+import com.gym.crm.app.repository.TrainingRepository;
+import com.gym.crm.app.repository.projection.TraineeIdView;
+import com.gym.crm.app.repository.projection.TrainerIdView;
+import com.gym.crm.app.service.ingest.TrainingIngestError;
+import com.gym.crm.app.service.ingest.TrainingIngestResult;
+import com.gym.crm.app.service.ingest.TrainingIngestRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.gym.crm.app.util.Constants.ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND;
+import static com.gym.crm.app.util.Constants.ERROR_TRAINER_WITHOUT_SPECIALIZATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingIngestServiceImplTest {
+
+    private static final LocalDate TRAINING_DATE = LocalDate.parse("2024-01-01");
+
+    @Mock
+    private MessageHelper messageHelper;
+
+    @Mock
+    private TraineeRepository traineeRepository;
+
+    @Mock
+    private TrainerRepository trainerRepository;
+
+    @Mock
+    private TrainingRepository trainingRepository;
+
+    @InjectMocks
+    private TrainingIngestServiceImpl service;
+
+    @Captor
+    private ArgumentCaptor<List<Training>> trainingsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+    }
+
+    @Test
+    @DisplayName("Test ingest inserts resolved rows and reports the rest functionality")
+    void givenMixedRows_whenIngest_thenResolvedRowsAreInsertedAndOthersReported() {
+        // given
+        List<TrainingIngestRow> rows = List.of(
+                new TrainingIngestRow(0, "John.Doe", "Emily.Davis", "Morning yoga", TRAINING_DATE, 60),
+                new TrainingIngestRow(1, "Ghost.User", "Emily.Davis", "Evening yoga", TRAINING_DATE, 60),
+                new TrainingIngestRow(2, "John.Doe", "David.Brown", "Cardio", TRAINING_DATE, 30));
+
+        given(traineeRepository.findIdViewsByUsernames(Set.of("John.Doe", "Ghost.User")))
+                .willReturn(List.of(new TraineeIdView(10L, "John.Doe")));
+        given(trainerRepository.findIdViewsByUsernames(Set.of("Emily.Davis", "David.Brown")))
+                .willReturn(List.of(new TrainerIdView(20L, "Emily.Davis", 1L), new TrainerIdView(21L, "David.Brown", null)));
+        given(messageHelper.getMessage(ERROR_TRAINEE_WITH_USERNAME_NOT_FOUND, "Ghost.User"))
+                .willReturn("Trainee with username Ghost.User not found");
+        given(messageHelper.getMessage(ERROR_TRAINER_WITHOUT_SPECIALIZATION, "David.Brown"))
+                .willReturn("Trainer with username David.Brown has no specialization");
+        given(trainingRepository.allocateIds(1))
+                .willReturn(List.of(101L));
+
+        // when
+        TrainingIngestResult actual = service.ingest(rows);
+
+        // then
+        assertThat(actual.inserted()).isEqualTo(1);
+        assertThat(actual.errors()).containsExactly(
+                new TrainingIngestError(1, "Trainee with username Ghost.User not found"),
+                new TrainingIngestError(2, "Trainer with username David.Brown has no specialization"));
+
+        verify(trainingRepository).insertAll(trainingsCaptor.capture(), eq(500));
+        Training inserted = trainingsCaptor.getValue().get(0);
+        assertThat(inserted.getId()).isEqualTo(101L);
+        assertThat(inserted.getTrainee().getId()).isEqualTo(10L);
+        assertThat(inserted.getTrainer().getId()).isEqualTo(20L);
+        assertThat(inserted.getTrainingType().getId()).isEqualTo(1L);
+        verify(traineeRepository).assignTrainersIfAbsent(Map.of(10L, Set.of(20L)), 500);
+    }
+
+    @Test
+    @DisplayName("Test ingest of empty batch functionality")
+    void givenNoRows_whenIngest_thenNothingIsQueried() {
+        // when
+        TrainingIngestResult actual = service.ingest(List.of());
+
+        // then
+        assertThat(actual.inserted()).isZero();
+        assertThat(actual.errors()).isEmpty();
+        verifyNoInteractions(traineeRepository, trainerRepository, trainingRepository);
+    }
+}
@@ -4,7 +4,12 @@ import com.gym.crm.app.entity.Training;
 import com.gym.crm.app.exception.EntityValidationException;
 import com.gym.crm.app.logging.MessageHelper;
 import com.gym.crm.app.repository.TrainingRepository;
+import com.gym.crm.app.repository.projection.TrainingView;
 import com.gym.crm.app.service.common.EntityValidator;
+import com.gym.crm.app.service.search.CursorPage;
+import com.gym.crm.app.service.search.TraineeTrainingSearchFilter;
+import com.gym.crm.app.service.search.TrainerTrainingSearchFilter;
+import com.gym.crm.app.service.search.TrainingCursor;
 import com.gym.crm.app.utils.EntityTestData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,12 +17,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static com.gym.crm.app.util.Constants.ERROR_TRAINING_WITH_ID_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.only;
@@ -77,6 +90,77 @@ class TrainingServiceImplTest {
         assertThat(ex.getMessage()).isEqualTo(message);
     }
 
+    @Test
+    @DisplayName("Test find trainings returns next cursor when more rows exist")
+    public void givenMoreRowsThanLimit_whenFindAll_thenNextCursorIsReturned() {
+        // given
+        ReflectionTestUtils.setField(service, "maxPageSize", 200);
+
+        TrainingView first = new TrainingView(2L, "Training 2", LocalDate.parse("2020-01-02"), "Yoga", 60, "Emily", "John");
+        TrainingView second = new TrainingView(1L, "Training 1", LocalDate.parse("2020-01-01"), "Yoga", 60, "Emily", "John");
+        TraineeTrainingSearchFilter searchFilter = TraineeTrainingSearchFilter.builder()
+                .username("John.Doe")
+                .limit(1)
+                .build();
+
+        given(repository.findViews(any(Specification.class), any(Sort.class), eq(Limit.of(2))))
+                .willReturn(List.of(first, second));
+
+        // when
+        CursorPage<TrainingView> actual = service.findAll(searchFilter);
+
+        // then
+        assertThat(actual.content()).containsExactly(first);
+        assertThat(actual.hasNext()).isTrue();
+        assertThat(TrainingCursor.decode(actual.nextCursor())).isEqualTo(TrainingCursor.of(first));
+    }
+
+    @Test
+    @DisplayName("Test find trainings caps page size and returns no cursor on the last page")
+    public void givenRowsWithinLimit_whenFindAll_thenNoCursorIsReturned() {
+        // given
+        ReflectionTestUtils.setField(service, "maxPageSize", 200);
+
+        TrainingView training = new TrainingView(1L, "Training 1", LocalDate.parse("2020-01-01"), "Yoga", 60, "Emily", "John");
+        TrainerTrainingSearchFilter searchFilter = TrainerTrainingSearchFilter.builder()
+                .username("Emily.Davis")
+                .limit(500)
+                .build();
+
+        given(repository.findViews(any(Specification.class), any(Sort.class), eq(Limit.of(201))))
+                .willReturn(List.of(training));
+
+        // when
+        CursorPage<TrainingView> actual = service.findAll(searchFilter);
+
+        // then
+        assertThat(actual.content()).containsExactly(training);
+        assertThat(actual.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test find trainings without limit returns all rows and no cursor")
+    public void givenNoLimit_whenFindAll_thenAllRowsAreReturned() {
+        // given
+        ReflectionTestUtils.setField(service, "maxPageSize", 200);
+
+        TrainingView first = new TrainingView(2L, "Training 2", LocalDate.parse("2020-01-02"), "Yoga", 60, "Emily", "John");
+        TrainingView second = new TrainingView(1L, "Training 1", LocalDate.parse("2020-01-01"), "Yoga", 60, "Emily", "John");
+        TraineeTrainingSearchFilter searchFilter = TraineeTrainingSearchFilter.builder()
+                .username("John.Doe")
+                .build();
+
+        given(repository.findViews(any(Specification.class), any(Sort.class), eq(Limit.unlimited())))
+                .willReturn(List.of(first, second));
+
+        // when
+        CursorPage<TrainingView> actual = service.findAll(searchFilter);
+
+        // then
+        assertThat(actual.content()).containsExactly(first, second);
+        assertThat(actual.hasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("Test save training functionality")
     public void givenSaveTraining_whenSave_thenRepositoryIsCalled() {
@@ -122,6 +122,22 @@ class UserServiceImplTest {
         assertThat(ex.getMessage()).isEqualTo(message);
     }
 
+    @Test
+    @DisplayName("Test find active state by username functionality")
+    public void givenUsername_whenFindActiveStateByUsername_thenActiveStateIsReturned() {
+        // given
+        String username = "John.Doe";
+
+        given(repository.findIsActiveByUsername(username))
+                .willReturn(Optional.of(true));
+
+        // when
+        Optional<Boolean> actual = service.findActiveStateByUsername(username);
+
+        // then
+        assertThat(actual).contains(true);
+    }
+
     @Test
     @DisplayName("Test save user functionality")
     public void givenSaveUser_whenSave_thenRepositoryIsCalled() {
@@ -0,0 +1,36 @@
+package com.gym.crm.app.service.search;
+
+import com.gym.crm.app.exception.EntityValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TrainingCursorTest {
+
+    @Test
+    @DisplayName("Test encoded cursor is decoded to the same position")
+    void givenCursor_whenEncodeAndDecode_thenSamePositionIsReturned() {
+        // given
+        TrainingCursor cursor = new TrainingCursor(LocalDate.parse("2020-01-02"), 42L);
+
+        // when
+        TrainingCursor actual = TrainingCursor.decode(cursor.encode());
+
+        // then
+        assertThat(actual).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Test malformed cursor is rejected")
+    void givenMalformedCursor_whenDecode_thenExceptionIsThrown() {
+        // when
+        EntityValidationException ex = assertThrows(EntityValidationException.class, () -> TrainingCursor.decode("not-a-cursor"));
+
+        // then
+        assertThat(ex.getMessage()).isEqualTo("Invalid training page cursor");
+    }
+}
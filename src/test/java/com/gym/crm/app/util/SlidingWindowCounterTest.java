@@ -0,0 +1,43 @@
+package com.gym.crm.app.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    private final SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(10), 10);
+
+    @Test
+    @DisplayName("Test increments within window are summed")
+    void givenIncrementsWithinWindow_whenSum_thenAllAreCounted() {
+        // given
+        counter.incrementAndSum(1_000);
+        counter.incrementAndSum(1_500);
+        counter.incrementAndSum(5_000);
+
+        // when
+        long actual = counter.sum(9_000);
+
+        // then
+        assertThat(actual).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test increments outside window are not summed")
+    void givenOldIncrements_whenSum_thenOnlyRecentAreCounted() {
+        // given
+        counter.incrementAndSum(1_000);
+        counter.incrementAndSum(5_000);
+
+        // when
+        long actual = counter.incrementAndSum(12_000);
+
+        // then
+        assertThat(actual).isEqualTo(2);
+        assertThat(counter.sum(30_000)).isZero();
+    }
+}